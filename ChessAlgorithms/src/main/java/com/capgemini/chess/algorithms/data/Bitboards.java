@@ -0,0 +1,72 @@
+package com.capgemini.chess.algorithms.data;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Helpers for 64-bit board masks. Square index is {@code y * 8 + x}, so bit 0
+ * is the field (0, 0) and bit 63 is the field (7, 7).
+ */
+public final class Bitboards {
+
+	public static final int SQUARES = Board.SIZE * Board.SIZE;
+	public static final int NO_SQUARE = -1;
+
+	public static final long EMPTY = 0L;
+	public static final long FILE_A = 0x0101010101010101L;
+	public static final long FILE_H = FILE_A << 7;
+	public static final long RANK_1 = 0xFFL;
+	public static final long RANK_8 = RANK_1 << 56;
+
+	private Bitboards() {
+	}
+
+	public static int square(int x, int y) {
+		return (y << 3) | x;
+	}
+
+	public static int square(Coordinate coordinate) {
+		return square(coordinate.getX(), coordinate.getY());
+	}
+
+	public static int fileOf(int square) {
+		return square & 7;
+	}
+
+	public static int rankOf(int square) {
+		return square >>> 3;
+	}
+
+	public static Coordinate coordinateOf(int square) {
+		return new Coordinate(fileOf(square), rankOf(square));
+	}
+
+	public static boolean isOnBoard(int x, int y) {
+		return ((x | y) & ~7) == 0;
+	}
+
+	public static long bit(int square) {
+		return 1L << square;
+	}
+
+	public static boolean contains(long bitboard, int square) {
+		return (bitboard & (1L << square)) != 0;
+	}
+
+	/**
+	 * Index of the least significant set bit
+	 *
+	 * @param bitboard non empty mask
+	 * @return square index
+	 */
+	public static int firstSquare(long bitboard) {
+		return Long.numberOfTrailingZeros(bitboard);
+	}
+
+	public static long withoutFirstSquare(long bitboard) {
+		return bitboard & (bitboard - 1);
+	}
+
+	public static int count(long bitboard) {
+		return Long.bitCount(bitboard);
+	}
+}
@@ -0,0 +1,63 @@
+package com.capgemini.chess.algorithms.data;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+
+/**
+ * Castling rights kept as a 4-bit mask, one bit per king and side.
+ */
+public final class CastlingRights {
+
+	public static final int NONE = 0;
+	public static final int WHITE_KINGSIDE = 1;
+	public static final int WHITE_QUEENSIDE = 2;
+	public static final int BLACK_KINGSIDE = 4;
+	public static final int BLACK_QUEENSIDE = 8;
+	public static final int ALL = WHITE_KINGSIDE | WHITE_QUEENSIDE | BLACK_KINGSIDE | BLACK_QUEENSIDE;
+
+	private CastlingRights() {
+	}
+
+	/**
+	 * Right to castle with given king towards given side
+	 *
+	 * @param color king color
+	 * @param kingside true for castling towards the h file
+	 * @return single right bit
+	 */
+	public static int of(Color color, boolean kingside) {
+		int right = kingside ? WHITE_KINGSIDE : WHITE_QUEENSIDE;
+		return (color == Color.WHITE) ? right : right << 2;
+	}
+
+	/**
+	 * Both rights of given king
+	 *
+	 * @param color king color
+	 * @return rights mask
+	 */
+	public static int of(Color color) {
+		return of(color, true) | of(color, false);
+	}
+
+	/**
+	 * Right lost when a piece leaves or enters given square, so when the rook
+	 * moves away or is captured in its corner
+	 *
+	 * @param square square index
+	 * @return right bit or {@link #NONE} for squares other than corners
+	 */
+	public static int ofCorner(int square) {
+		switch (square) {
+		case 0:
+			return WHITE_QUEENSIDE;
+		case 7:
+			return WHITE_KINGSIDE;
+		case 56:
+			return BLACK_QUEENSIDE;
+		case 63:
+			return BLACK_KINGSIDE;
+		default:
+			return NONE;
+		}
+	}
+}
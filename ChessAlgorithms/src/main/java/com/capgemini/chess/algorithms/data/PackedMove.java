@@ -0,0 +1,118 @@
+package com.capgemini.chess.algorithms.data;
+
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Chess move packed into the lower 16 bits of an int: source square (bits
+ * 0-5), destination square (bits 6-11) and flags (bits 12-15). Flags of an
+ * ordinary move hold the {@link MoveType} ordinal; promotions set the
+ * promotion bit, the capture bit when a piece is taken, and the promoted piece
+ * type in the two lowest bits. Zero is never a valid move and is used as
+ * {@link #NONE}.
+ */
+public final class PackedMove {
+
+	public static final int NONE = 0;
+
+	private static final int SQUARE_MASK = 0x3F;
+	private static final int TO_SHIFT = 6;
+	private static final int FLAGS_SHIFT = 12;
+	private static final int PROMOTION_FLAG = 8;
+	private static final int CAPTURE_FLAG = 4;
+	private static final int TYPE_MASK = 3;
+
+	private static final MoveType[] MOVE_TYPES = MoveType.values();
+	private static final PieceType[] PROMOTIONS = { PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK,
+			PieceType.QUEEN };
+
+	private PackedMove() {
+	}
+
+	public static int of(int from, int to, MoveType type) {
+		return from | (to << TO_SHIFT) | (type.ordinal() << FLAGS_SHIFT);
+	}
+
+	public static int promotion(int from, int to, boolean capture, PieceType promotion) {
+		int flags = PROMOTION_FLAG | (capture ? CAPTURE_FLAG : 0) | promotionIndex(promotion);
+		return from | (to << TO_SHIFT) | (flags << FLAGS_SHIFT);
+	}
+
+	public static int from(int move) {
+		return move & SQUARE_MASK;
+	}
+
+	public static int to(int move) {
+		return (move >>> TO_SHIFT) & SQUARE_MASK;
+	}
+
+	public static MoveType type(int move) {
+		int flags = move >>> FLAGS_SHIFT;
+		if ((flags & PROMOTION_FLAG) != 0) {
+			return ((flags & CAPTURE_FLAG) != 0) ? MoveType.CAPTURE : MoveType.ATTACK;
+		}
+		return MOVE_TYPES[flags & TYPE_MASK];
+	}
+
+	public static boolean isPromotion(int move) {
+		return ((move >>> FLAGS_SHIFT) & PROMOTION_FLAG) != 0;
+	}
+
+	/**
+	 * Type of the piece a pawn is promoted to
+	 *
+	 * @param move packed move
+	 * @return promoted piece type or null if move is not a promotion
+	 */
+	public static PieceType promotionType(int move) {
+		return isPromotion(move) ? PROMOTIONS[(move >>> FLAGS_SHIFT) & TYPE_MASK] : null;
+	}
+
+	/**
+	 * Packs given move. A pawn move to the last rank is packed as a promotion
+	 * to queen.
+	 *
+	 * @param move chess move with all fields set
+	 * @return packed move
+	 */
+	public static int fromMove(Move move) {
+		int from = Bitboards.square(move.getFrom());
+		int to = Bitboards.square(move.getTo());
+		Piece piece = move.getMovedPiece();
+		if (piece != null && piece.getType() == PieceType.PAWN && isLastRank(to, piece)) {
+			return promotion(from, to, move.getType() == MoveType.CAPTURE, PieceType.QUEEN);
+		}
+		return of(from, to, move.getType());
+	}
+
+	/**
+	 * Unpacks given move
+	 *
+	 * @param move packed move
+	 * @param movedPiece piece standing on the source square
+	 * @return chess move
+	 */
+	public static Move toMove(int move, Piece movedPiece) {
+		Move result = new Move();
+		result.setFrom(Bitboards.coordinateOf(from(move)));
+		result.setTo(Bitboards.coordinateOf(to(move)));
+		result.setType(type(move));
+		result.setMovedPiece(movedPiece);
+		return result;
+	}
+
+	private static boolean isLastRank(int square, Piece pawn) {
+		int rank = Bitboards.rankOf(square);
+		return (pawn == Piece.WHITE_PAWN) ? rank == 7 : rank == 0;
+	}
+
+	private static int promotionIndex(PieceType type) {
+		for (int i = 0; i < PROMOTIONS.length; i++) {
+			if (PROMOTIONS[i] == type) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("Pawn cannot be promoted to " + type);
+	}
+}
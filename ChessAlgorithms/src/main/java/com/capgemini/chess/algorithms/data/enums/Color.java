@@ -9,4 +9,8 @@ package com.capgemini.chess.algorithms.data.enums;
 public enum Color {
 	WHITE, 
 	BLACK;
+
+	public Color opposite() {
+		return (this == WHITE) ? BLACK : WHITE;
+	}
 }
@@ -21,6 +21,8 @@ public enum Piece {
     BLACK_ROOK(PieceType.ROOK, Color.BLACK),
     BLACK_PAWN(PieceType.PAWN, Color.BLACK);
 
+    private static final Piece[] VALUES = values();
+
     private final PieceType type;
     private final Color color;
 
@@ -36,4 +38,15 @@ public enum Piece {
 	public Color getColor() {
 		return color;
 	}
+
+	/**
+	 * Finds piece of given type and color
+	 *
+	 * @param type piece type
+	 * @param color piece color
+	 * @return chess piece
+	 */
+	public static Piece of(PieceType type, Color color) {
+		return VALUES[color.ordinal() * PieceType.values().length + type.ordinal()];
+	}
 }
@@ -1,16 +1,32 @@
 package com.capgemini.chess.algorithms.data.enums;
 
 /**
- * Chess piece types
+ * Chess piece types with their material value in centipawns
  * 
  * @author Michal Bejm
  *
  */
 public enum PieceType {
-	KING, 		//krol
-    QUEEN, 		//krolowa/hetman
-    BISHOP,		//goniec
-    KNIGHT, 	//kon
-    ROOK, 		//wieza
-    PAWN; 		//pionek
+	KING(20000), 		//krol
+    QUEEN(900), 		//krolowa/hetman
+    BISHOP(330),		//goniec
+    KNIGHT(320), 	//kon
+    ROOK(500), 		//wieza
+    PAWN(100); 		//pionek
+
+	private final int value;
+
+	PieceType(int value) {
+		this.value = value;
+	}
+
+	/**
+	 * Material value in centipawns. King value only orders it above all
+	 * other pieces; it is not counted in evaluation.
+	 *
+	 * @return piece value
+	 */
+	public int getValue() {
+		return value;
+	}
 }
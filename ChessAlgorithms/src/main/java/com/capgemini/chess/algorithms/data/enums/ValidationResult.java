@@ -0,0 +1,27 @@
+package com.capgemini.chess.algorithms.data.enums;
+
+/**
+ * Result of move validation. Valid results carry type of the validated move.
+ */
+public enum ValidationResult {
+	ATTACK(MoveType.ATTACK),
+	CAPTURE(MoveType.CAPTURE),
+	CASTLING(MoveType.CASTLING),
+	EN_PASSANT(MoveType.EN_PASSANT),
+	INVALID(null),
+	KING_IN_CHECK(null);
+
+	private final MoveType moveType;
+
+	private ValidationResult(MoveType moveType) {
+		this.moveType = moveType;
+	}
+
+	public MoveType getMoveType() {
+		return moveType;
+	}
+
+	public boolean isValid() {
+		return moveType != null;
+	}
+}
@@ -1,36 +1,109 @@
 package com.capgemini.chess.algorithms.data.generated;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.CastlingRights;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.PackedMove;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
 
 /**
  * Board representation.
  * Board objects are generated based on move history.
- * 
+ * Pieces are kept in one 64-bit mask per piece (type and color) together with
+ * color and occupancy masks, see {@link Bitboards} for the square layout. A
+ * flat square array mirrors the masks so single field lookups stay constant time.
+ * Castling rights and en passant square are board state as well; together
+ * with pieces placement and side to move they make up the Zobrist key.
+ *
  * @author Michal Bejm
  *
  */
 public class Board {
-	
+
 	public static final int SIZE = 8;
-	
-	private Piece[][] pieces = new Piece[SIZE][SIZE];
+
+	private long[] pieceBitboards = new long[Piece.values().length];
+	private long[] colorBitboards = new long[Color.values().length];
+	private long occupied;
+	private long pieceKey;
+	private int castlingRights = CastlingRights.ALL;
+	private int enPassantSquare = Bitboards.NO_SQUARE;
+	private Piece[] squares = new Piece[SIZE * SIZE];
 	private List<Move> moveHistory = new ArrayList<>();
 	private BoardState state;
-	
+	private MoveUndo[] undoStack = new MoveUndo[0];
+	private int undoDepth;
+	private long[] positionKeys = new long[64];
+	private int positionKeyCount;
+	private int firstKeyPly;
+	private int lastIrreversibleKeyIndex;
+	private int lastCaptureOrCastlingKeyIndex;
+	private int halfmoveClock;
+	private int lastIrreversibleMoveIndex = -1;
+	private int countedMoves;
+	private int startPly;
+
 	public Board() {
 	}
 
+	/**
+	 * Creates an independent copy of given board, including move history
+	 * and moves made with {@link #makeMove(int, int, MoveType)}, which can
+	 * be taken back on the copy as well
+	 *
+	 * @param other board to copy
+	 */
+	public Board(Board other) {
+		pieceBitboards = other.pieceBitboards.clone();
+		colorBitboards = other.colorBitboards.clone();
+		occupied = other.occupied;
+		pieceKey = other.pieceKey;
+		castlingRights = other.castlingRights;
+		enPassantSquare = other.enPassantSquare;
+		squares = other.squares.clone();
+		moveHistory = new ArrayList<>(other.moveHistory);
+		state = other.state;
+		undoStack = new MoveUndo[other.undoStack.length];
+		for (int i = 0; i < undoStack.length; i++) {
+			undoStack[i] = other.undoStack[i].copy();
+		}
+		undoDepth = other.undoDepth;
+		positionKeys = other.positionKeys.clone();
+		positionKeyCount = other.positionKeyCount;
+		firstKeyPly = other.firstKeyPly;
+		lastIrreversibleKeyIndex = other.lastIrreversibleKeyIndex;
+		lastCaptureOrCastlingKeyIndex = other.lastCaptureOrCastlingKeyIndex;
+		halfmoveClock = other.halfmoveClock;
+		lastIrreversibleMoveIndex = other.lastIrreversibleMoveIndex;
+		countedMoves = other.countedMoves;
+		startPly = other.startPly;
+	}
+
 	public List<Move> getMoveHistory() {
 		return moveHistory;
 	}
 
+	/**
+	 * Builds a snapshot of the board as a two dimensional array indexed by
+	 * [x][y]. Changes made to the returned array are not reflected on the
+	 * board.
+	 *
+	 * @return copy of pieces placement
+	 */
 	public Piece[][] getPieces() {
+		Piece[][] pieces = new Piece[SIZE][SIZE];
+		for (int square = 0; square < squares.length; square++) {
+			pieces[Bitboards.fileOf(square)][Bitboards.rankOf(square)] = squares[square];
+		}
 		return pieces;
 	}
 
@@ -41,25 +114,539 @@ public class Board {
 	public void setState(BoardState state) {
 		this.state = state;
 	}
-	
+
 	/**
 	 * Sets chess piece on board based on given coordinates
-	 * 
+	 *
 	 * @param piece chess piece
 	 * @param board chess board
 	 * @param coordinate given coordinates
 	 */
 	public void setPieceAt(Piece piece, Coordinate coordinate) {
-		pieces[coordinate.getX()][coordinate.getY()] = piece;
+		setPieceAt(piece, toSquare(coordinate));
 	}
-	
+
 	/**
 	 * Gets chess piece from board based on given coordinates
-	 * 
+	 *
 	 * @param coordinate given coordinates
 	 * @return chess piece
 	 */
 	public Piece getPieceAt(Coordinate coordinate) {
-		return pieces[coordinate.getX()][coordinate.getY()];
+		return squares[toSquare(coordinate)];
+	}
+
+	/**
+	 * Sets chess piece on board based on given square index
+	 *
+	 * @param piece chess piece, null clears the square
+	 * @param square square index
+	 */
+	public void setPieceAt(Piece piece, int square) {
+		long mask = Bitboards.bit(square);
+		Piece current = squares[square];
+		if (current != null) {
+			pieceBitboards[current.ordinal()] &= ~mask;
+			pieceKey ^= Zobrist.PIECE_SQUARE[current.ordinal()][square];
+			colorBitboards[current.getColor().ordinal()] &= ~mask;
+			occupied &= ~mask;
+		}
+		if (piece != null) {
+			pieceBitboards[piece.ordinal()] |= mask;
+			pieceKey ^= Zobrist.PIECE_SQUARE[piece.ordinal()][square];
+			colorBitboards[piece.getColor().ordinal()] |= mask;
+			occupied |= mask;
+		}
+		squares[square] = piece;
+	}
+
+	/**
+	 * Gets chess piece from board based on given square index
+	 *
+	 * @param square square index
+	 * @return chess piece or null for empty square
+	 */
+	public Piece getPieceAt(int square) {
+		return squares[square];
+	}
+
+	/**
+	 * Mask of squares occupied by given piece
+	 *
+	 * @param piece chess piece
+	 * @return bitboard
+	 */
+	public long getBitboard(Piece piece) {
+		return pieceBitboards[piece.ordinal()];
+	}
+
+	/**
+	 * Mask of squares occupied by pieces of given color
+	 *
+	 * @param color pieces color
+	 * @return bitboard
+	 */
+	public long getColorBitboard(Color color) {
+		return colorBitboards[color.ordinal()];
+	}
+
+	/**
+	 * Mask of all occupied squares
+	 *
+	 * @return bitboard
+	 */
+	public long getOccupied() {
+		return occupied;
+	}
+
+	/**
+	 * Castling rights still available, see {@link CastlingRights}
+	 *
+	 * @return rights mask
+	 */
+	public int getCastlingRights() {
+		syncWithHistory();
+		return castlingRights;
+	}
+
+	public void setCastlingRights(int castlingRights) {
+		syncWithHistory();
+		this.castlingRights = castlingRights;
+	}
+
+	/**
+	 * Square a pawn skipped with its double step in the last move, set only
+	 * when an enemy pawn stands next to it and could capture en passant
+	 *
+	 * @return square index or {@link Bitboards#NO_SQUARE}
+	 */
+	public int getEnPassantSquare() {
+		syncWithHistory();
+		return enPassantSquare;
+	}
+
+	public void setEnPassantSquare(int enPassantSquare) {
+		syncWithHistory();
+		this.enPassantSquare = enPassantSquare;
+	}
+
+	/**
+	 * Color of the player to move, derived from the number of moves in history
+	 * and moves made with {@link #makeMove(int, int, MoveType)}
+	 *
+	 * @return side to move
+	 */
+	public Color getSideToMove() {
+		return (getPly() % 2 == 0) ? Color.WHITE : Color.BLACK;
+	}
+
+	/**
+	 * Number of plies played since the start of the game: start ply, moves in
+	 * history and moves made with {@link #makeMove(int, int, MoveType)}
+	 *
+	 * @return ply count, even when white is to move
+	 */
+	public int getPly() {
+		return startPly + moveHistory.size() + undoDepth;
+	}
+
+	public int getStartPly() {
+		return startPly;
+	}
+
+	/**
+	 * Sets number of plies played before the position the board was set up
+	 * with, so odd value means black is to move before any move is added
+	 *
+	 * @param startPly ply count of the initial position
+	 */
+	public void setStartPly(int startPly) {
+		this.startPly = startPly;
+	}
+
+	/**
+	 * Zobrist key of the position: pieces placement, side to move, castling
+	 * rights and en passant file. Piece part is updated incrementally on
+	 * every placement change.
+	 *
+	 * @return 64-bit position key
+	 */
+	public long getZobristKey() {
+		syncWithHistory();
+		long key = pieceKey ^ Zobrist.CASTLING[castlingRights];
+		if (enPassantSquare != Bitboards.NO_SQUARE) {
+			key ^= Zobrist.EN_PASSANT_FILE[Bitboards.fileOf(enPassantSquare)];
+		}
+		if (getSideToMove() == Color.BLACK) {
+			key ^= Zobrist.BLACK_TO_MOVE;
+		}
+		return key;
+	}
+
+	/**
+	 * Number of plies since the last capture or pawn move, including
+	 * moves made with {@link #makeMove(int, int, MoveType)}
+	 *
+	 * @return halfmove clock
+	 */
+	public int getHalfmoveClock() {
+		syncWithHistory();
+		return halfmoveClock;
+	}
+
+	public void setHalfmoveClock(int halfmoveClock) {
+		syncWithHistory();
+		this.halfmoveClock = halfmoveClock;
+	}
+
+	/**
+	 * Index in move history of the last capture, castling or pawn move
+	 *
+	 * @return history index or -1 if there was no such move
+	 */
+	public int getLastIrreversibleMoveIndex() {
+		syncWithHistory();
+		return lastIrreversibleMoveIndex;
+	}
+
+	/**
+	 * Number of times the current position occurred since the last capture,
+	 * castling or pawn move, counting the current occurrence. Only positions
+	 * with the same side to move, so every second one, are compared.
+	 * <p>
+	 * Positions are known for moves added with {@link #addMove(Move)} and
+	 * {@link #makeMove(int, int, MoveType)}. When history or placement was
+	 * changed directly, counting starts over from the current position.
+	 *
+	 * @return number of occurrences, at least 1
+	 */
+	public int getRepetitionCount() {
+		syncPositionKeys();
+		return countRepetitions(lastIrreversibleKeyIndex);
+	}
+
+	/**
+	 * Like {@link #getRepetitionCount()}, but scans back across pawn moves to
+	 * the last capture or castling. In a legal game no position repeats
+	 * across a pawn move and both counts are equal; this one also accepts
+	 * histories in which pawns are moved back, as the threefold repetition
+	 * rule always did.
+	 *
+	 * @return number of occurrences, at least 1
+	 */
+	public int getRepetitionCountAcrossPawnMoves() {
+		syncPositionKeys();
+		return countRepetitions(lastCaptureOrCastlingKeyIndex);
+	}
+
+	/**
+	 * Performs given move and appends it to the move history. Handles
+	 * capture, en passant capture, rook relocation for castling and pawn
+	 * promotion to queen.
+	 *
+	 * @param move move with source, destination and type set
+	 */
+	public void addMove(Move move) {
+		syncWithHistory();
+		syncPositionKeys();
+		int from = Bitboards.square(move.getFrom());
+		boolean pawnMove = isPawn(squares[from]);
+		boolean capture = movePieces(from, Bitboards.square(move.getTo()), move.getType(), null);
+		boolean castling = move.getType() == MoveType.CASTLING;
+		moveHistory.add(move);
+		boolean resetsClock = capture || pawnMove || resetsHalfmoveClock(move);
+		countMove(resetsClock || castling || isIrreversible(move), resetsClock);
+		pushPositionKey(capture || castling, pawnMove);
+	}
+
+	/**
+	 * Performs trusted move without validation and without recording it in
+	 * history. The ply is counted in start ply, so side to move, castling
+	 * rights, en passant square, halfmove clock and repetition keys stay up
+	 * to date. Used to replay stored games when only the final position is
+	 * needed; nothing is allocated per move.
+	 *
+	 * @param from source square index
+	 * @param to destination square index
+	 * @param type move type
+	 */
+	public void applyMove(int from, int to, MoveType type) {
+		syncWithHistory();
+		syncPositionKeys();
+		boolean pawnMove = isPawn(squares[from]);
+		boolean capture = movePieces(from, to, type, null);
+		startPly++;
+		halfmoveClock = (capture || pawnMove) ? 0 : halfmoveClock + 1;
+		pushPositionKey(capture || type == MoveType.CASTLING, pawnMove);
+	}
+
+	/**
+	 * Moves pieces like {@link #addMove(Move)}, without recording the move in
+	 * history, and remembers what is needed to restore the previous position
+	 * with {@link #unmakeMove()}. Undo records are reused, so trying a move
+	 * does not allocate.
+	 *
+	 * @param from source square index
+	 * @param to destination square index
+	 * @param type move type
+	 */
+	public void makeMove(int from, int to, MoveType type) {
+		syncWithHistory();
+		syncPositionKeys();
+		if (undoDepth == undoStack.length) {
+			growUndoStack();
+		}
+		MoveUndo undo = undoStack[undoDepth++];
+		boolean pawnMove = isPawn(squares[from]);
+		boolean capture = movePieces(from, to, type, undo);
+		undo.lastIrreversibleKeyIndex = lastIrreversibleKeyIndex;
+		undo.lastCaptureOrCastlingKeyIndex = lastCaptureOrCastlingKeyIndex;
+		undo.halfmoveClock = halfmoveClock;
+		pushPositionKey(capture || type == MoveType.CASTLING, pawnMove);
+		halfmoveClock = (capture || pawnMove) ? 0 : halfmoveClock + 1;
+	}
+
+	/**
+	 * Makes move given in {@link PackedMove} encoding, see
+	 * {@link #makeMove(int, int, MoveType)}. Pawns are always promoted to queen.
+	 *
+	 * @param move packed move
+	 */
+	public void makeMove(int move) {
+		makeMove(PackedMove.from(move), PackedMove.to(move), PackedMove.type(move));
+	}
+
+	/**
+	 * Takes back the last move made with {@link #makeMove(int, int, MoveType)}.
+	 */
+	public void unmakeMove() {
+		MoveUndo undo = undoStack[--undoDepth];
+		if (undo.rookFrom != Bitboards.NO_SQUARE) {
+			setPieceAt(squares[undo.rookTo], undo.rookFrom);
+			setPieceAt(null, undo.rookTo);
+		}
+		setPieceAt(null, undo.to);
+		setPieceAt(undo.movedPiece, undo.from);
+		if (undo.capturedPiece != null) {
+			setPieceAt(undo.capturedPiece, undo.capturedSquare);
+		}
+		castlingRights = undo.castlingRights;
+		enPassantSquare = undo.enPassantSquare;
+		if (positionKeyCount > 0) {
+			positionKeyCount--;
+		}
+		lastIrreversibleKeyIndex = undo.lastIrreversibleKeyIndex;
+		lastCaptureOrCastlingKeyIndex = undo.lastCaptureOrCastlingKeyIndex;
+		halfmoveClock = undo.halfmoveClock;
+	}
+
+	/**
+	 * Number of moves made with {@link #makeMove(int, int, MoveType)} which
+	 * were not taken back yet
+	 *
+	 * @return undo stack depth
+	 */
+	public int getUndoDepth() {
+		return undoDepth;
+	}
+
+	/**
+	 * Compares pieces placement with another board
+	 *
+	 * @param other board to compare with
+	 * @return true if every piece stands on the same square on both boards
+	 */
+	public boolean hasSamePlacement(Board other) {
+		return Arrays.equals(pieceBitboards, other.pieceBitboards);
+	}
+
+	/**
+	 * @return true if a piece was captured
+	 */
+	private boolean movePieces(int from, int to, MoveType type, MoveUndo undo) {
+		Piece movedPiece = squares[from];
+		int capturedSquare = to;
+		if (type == MoveType.EN_PASSANT) {
+			capturedSquare = Bitboards.square(Bitboards.fileOf(to), Bitboards.rankOf(from));
+		}
+		Piece capturedPiece = squares[capturedSquare];
+
+		if (undo != null) {
+			undo.reset(from, to, movedPiece);
+			undo.castlingRights = castlingRights;
+			undo.enPassantSquare = enPassantSquare;
+			if (capturedPiece != null) {
+				undo.capturedPiece = capturedPiece;
+				undo.capturedSquare = capturedSquare;
+			}
+		}
+
+		if (capturedPiece != null) {
+			setPieceAt(null, capturedSquare);
+		}
+		setPieceAt(null, from);
+		setPieceAt(promote(movedPiece, to), to);
+
+		if (type == MoveType.CASTLING) {
+			int rank = Bitboards.rankOf(from);
+			boolean queenSide = Bitboards.fileOf(from) > Bitboards.fileOf(to);
+			int rookFrom = Bitboards.square(queenSide ? 0 : SIZE - 1, rank);
+			int rookTo = queenSide ? to + 1 : to - 1;
+			setPieceAt(squares[rookFrom], rookTo);
+			setPieceAt(null, rookFrom);
+			if (undo != null) {
+				undo.rookFrom = rookFrom;
+				undo.rookTo = rookTo;
+			}
+		}
+		updateCastlingRights(movedPiece, from, to);
+		updateEnPassantSquare(movedPiece, from, to);
+		return capturedPiece != null;
+	}
+
+	/**
+	 * Folds in moves appended to the history list directly instead of through
+	 * {@link #addMove(Move)}. Only entries not seen yet are scanned.
+	 */
+	private void syncWithHistory() {
+		if (countedMoves > moveHistory.size()) {
+			countedMoves = 0;
+			halfmoveClock = 0;
+			lastIrreversibleMoveIndex = -1;
+		}
+		if (countedMoves == moveHistory.size()) {
+			return;
+		}
+		Move move = null;
+		while (countedMoves < moveHistory.size()) {
+			move = moveHistory.get(countedMoves);
+			if (move != null && move.getFrom() != null && move.getTo() != null) {
+				updateCastlingRights(move.getMovedPiece(), Bitboards.square(move.getFrom()),
+						Bitboards.square(move.getTo()));
+			}
+			countMove(isIrreversible(move), resetsHalfmoveClock(move));
+		}
+		enPassantSquare = Bitboards.NO_SQUARE;
+		if (move != null && move.getFrom() != null && move.getTo() != null) {
+			updateEnPassantSquare(move.getMovedPiece(), Bitboards.square(move.getFrom()),
+					Bitboards.square(move.getTo()));
+		}
+	}
+
+	private void countMove(boolean irreversible, boolean resetsClock) {
+		if (irreversible) {
+			lastIrreversibleMoveIndex = countedMoves;
+		}
+		halfmoveClock = resetsClock ? 0 : halfmoveClock + 1;
+		countedMoves++;
+	}
+
+	private static boolean isIrreversible(Move move) {
+		if (move == null) {
+			return false;
+		}
+		MoveType type = move.getType();
+		return (type != null && type != MoveType.ATTACK) || isPawn(move.getMovedPiece());
+	}
+
+	/**
+	 * Only captures and pawn moves reset the fifty-move counter; castling
+	 * is irreversible, but does not
+	 */
+	private static boolean resetsHalfmoveClock(Move move) {
+		if (move == null) {
+			return false;
+		}
+		MoveType type = move.getType();
+		return type == MoveType.CAPTURE || type == MoveType.EN_PASSANT || isPawn(move.getMovedPiece());
+	}
+
+	private static boolean isPawn(Piece piece) {
+		return piece != null && piece.getType() == PieceType.PAWN;
+	}
+
+	private void syncPositionKeys() {
+		int ply = getPly();
+		if (positionKeyCount == 0 || firstKeyPly + positionKeyCount - 1 != ply
+				|| positionKeys[positionKeyCount - 1] != getZobristKey()) {
+			firstKeyPly = ply;
+			positionKeys[0] = getZobristKey();
+			positionKeyCount = 1;
+			lastIrreversibleKeyIndex = 0;
+			lastCaptureOrCastlingKeyIndex = 0;
+		} else {
+			lastIrreversibleKeyIndex = Math.min(lastIrreversibleKeyIndex, positionKeyCount - 1);
+			lastCaptureOrCastlingKeyIndex = Math.min(lastCaptureOrCastlingKeyIndex, positionKeyCount - 1);
+		}
+	}
+
+	private int countRepetitions(int firstKeyIndex) {
+		long key = positionKeys[positionKeyCount - 1];
+		int count = 1;
+		for (int i = positionKeyCount - 3; i >= firstKeyIndex; i -= 2) {
+			if (positionKeys[i] == key) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private void pushPositionKey(boolean captureOrCastling, boolean pawnMove) {
+		if (positionKeyCount == positionKeys.length) {
+			positionKeys = Arrays.copyOf(positionKeys, positionKeyCount * 2);
+		}
+		positionKeys[positionKeyCount++] = getZobristKey();
+		if (captureOrCastling) {
+			lastCaptureOrCastlingKeyIndex = positionKeyCount - 1;
+		}
+		if (captureOrCastling || pawnMove) {
+			lastIrreversibleKeyIndex = positionKeyCount - 1;
+		}
+	}
+
+	private void updateCastlingRights(Piece movedPiece, int from, int to) {
+		if (movedPiece != null && movedPiece.getType() == PieceType.KING) {
+			castlingRights &= ~CastlingRights.of(movedPiece.getColor());
+		}
+		castlingRights &= ~(CastlingRights.ofCorner(from) | CastlingRights.ofCorner(to));
+	}
+
+	private void updateEnPassantSquare(Piece movedPiece, int from, int to) {
+		enPassantSquare = Bitboards.NO_SQUARE;
+		if (movedPiece == null || movedPiece.getType() != PieceType.PAWN
+				|| Math.abs(Bitboards.rankOf(to) - Bitboards.rankOf(from)) != 2) {
+			return;
+		}
+		long enemyPawns = pieceBitboards[Piece.of(PieceType.PAWN, movedPiece.getColor().opposite()).ordinal()];
+		long neighbours = ((Bitboards.bit(to) << 1) & ~Bitboards.FILE_A) | ((Bitboards.bit(to) >>> 1) & ~Bitboards.FILE_H);
+		if ((enemyPawns & neighbours) != 0) {
+			enPassantSquare = (from + to) / 2;
+		}
+	}
+
+	private static Piece promote(Piece piece, int to) {
+		if (piece == Piece.WHITE_PAWN && Bitboards.rankOf(to) == SIZE - 1) {
+			return Piece.WHITE_QUEEN;
+		}
+		if (piece == Piece.BLACK_PAWN && Bitboards.rankOf(to) == 0) {
+			return Piece.BLACK_QUEEN;
+		}
+		return piece;
+	}
+
+	private void growUndoStack() {
+		int oldLength = undoStack.length;
+		undoStack = Arrays.copyOf(undoStack, Math.max(16, oldLength * 2));
+		for (int i = oldLength; i < undoStack.length; i++) {
+			undoStack[i] = new MoveUndo();
+		}
+	}
+
+	private static int toSquare(Coordinate coordinate) {
+		if (!Bitboards.isOnBoard(coordinate.getX(), coordinate.getY())) {
+			throw new ArrayIndexOutOfBoundsException(
+					"Coordinate out of board: " + coordinate.getX() + ", " + coordinate.getY());
+		}
+		return Bitboards.square(coordinate);
 	}
 }
@@ -0,0 +1,52 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+
+/**
+ * Information needed to take back a move made with
+ * {@link Board#makeMove(int, int, com.capgemini.chess.algorithms.data.enums.MoveType)}.
+ * Instances are pooled by the board and reused between moves.
+ */
+class MoveUndo {
+
+	int from;
+	int to;
+	Piece movedPiece;
+	Piece capturedPiece;
+	int capturedSquare;
+	int rookFrom;
+	int rookTo;
+	int castlingRights;
+	int enPassantSquare;
+	int lastIrreversibleKeyIndex;
+	int lastCaptureOrCastlingKeyIndex;
+	int halfmoveClock;
+
+	void reset(int from, int to, Piece movedPiece) {
+		this.from = from;
+		this.to = to;
+		this.movedPiece = movedPiece;
+		this.capturedPiece = null;
+		this.capturedSquare = Bitboards.NO_SQUARE;
+		this.rookFrom = Bitboards.NO_SQUARE;
+		this.rookTo = Bitboards.NO_SQUARE;
+	}
+
+	MoveUndo copy() {
+		MoveUndo copy = new MoveUndo();
+		copy.from = from;
+		copy.to = to;
+		copy.movedPiece = movedPiece;
+		copy.capturedPiece = capturedPiece;
+		copy.capturedSquare = capturedSquare;
+		copy.rookFrom = rookFrom;
+		copy.rookTo = rookTo;
+		copy.castlingRights = castlingRights;
+		copy.enPassantSquare = enPassantSquare;
+		copy.lastIrreversibleKeyIndex = lastIrreversibleKeyIndex;
+		copy.lastCaptureOrCastlingKeyIndex = lastCaptureOrCastlingKeyIndex;
+		copy.halfmoveClock = halfmoveClock;
+		return copy;
+	}
+}
@@ -0,0 +1,48 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import java.util.SplittableRandom;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.CastlingRights;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+
+/**
+ * Random keys for Zobrist hashing of {@link Board} positions. Keys come from a
+ * fixed seed, so a position has the same key in every run.
+ */
+final class Zobrist {
+
+	private static final long SEED = 0x5EEDC0FFEE5EEDL;
+
+	static final long[][] PIECE_SQUARE = new long[Piece.values().length][Bitboards.SQUARES];
+	static final long[] CASTLING = new long[CastlingRights.ALL + 1];
+	static final long[] EN_PASSANT_FILE = new long[Board.SIZE];
+	static final long BLACK_TO_MOVE;
+
+	static {
+		SplittableRandom random = new SplittableRandom(SEED);
+		for (long[] squares : PIECE_SQUARE) {
+			for (int square = 0; square < squares.length; square++) {
+				squares[square] = random.nextLong();
+			}
+		}
+		long[] rightKeys = new long[4];
+		for (int i = 0; i < rightKeys.length; i++) {
+			rightKeys[i] = random.nextLong();
+		}
+		for (int rights = 0; rights < CASTLING.length; rights++) {
+			for (int i = 0; i < rightKeys.length; i++) {
+				if ((rights & (1 << i)) != 0) {
+					CASTLING[rights] ^= rightKeys[i];
+				}
+			}
+		}
+		for (int file = 0; file < EN_PASSANT_FILE.length; file++) {
+			EN_PASSANT_FILE[file] = random.nextLong();
+		}
+		BLACK_TO_MOVE = random.nextLong();
+	}
+
+	private Zobrist() {
+	}
+}
@@ -1,16 +1,15 @@
 package com.capgemini.chess.algorithms.implementation;
 
-import java.util.Arrays;
 import java.util.List;
 
+import com.capgemini.chess.algorithms.data.Bitboards;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Move;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
 import com.capgemini.chess.algorithms.data.enums.Color;
-import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.Piece;
-import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.attacks.AttackDetector;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 import com.capgemini.chess.algorithms.implementation.exceptions.KingInCheckException;
 
@@ -39,6 +38,25 @@ public class BoardManager {
 		this.board = board;
 	}
 
+	/**
+	 * Rebuilds final position of a trusted game, e.g. one validated when it
+	 * was played. Moves are applied without validation and not kept in move
+	 * history; castling rights, en passant square, halfmove clock and
+	 * repetition keys are updated incrementally on the way.
+	 *
+	 * @param moves moves with source, destination and type set
+	 * @return board manager with the final position
+	 */
+	public static BoardManager replayPosition(List<Move> moves) {
+		BoardManager boardManager = new BoardManager();
+		Board board = boardManager.board;
+		for (int i = 0; i < moves.size(); i++) {
+			Move move = moves.get(i);
+			board.applyMove(Bitboards.square(move.getFrom()), Bitboards.square(move.getTo()), move.getType());
+		}
+		return boardManager;
+	}
+
 	/**
 	 * Getter for generated board
 	 *
@@ -106,25 +124,7 @@ public class BoardManager {
 	 * @return true if current state repeated at list two times, false otherwise
 	 */
 	public boolean checkThreefoldRepetitionRule() {
-
-		// there is no need to check moves that where before last capture/en
-		// passant/castling
-		int lastNonAttackMoveIndex = findLastNonAttackMoveIndex();
-		List<Move> omittedMoves = this.board.getMoveHistory().subList(0, lastNonAttackMoveIndex);
-		BoardManager simulatedBoardManager = new BoardManager(omittedMoves);
-
-		int counter = 0;
-		for (int i = lastNonAttackMoveIndex; i < this.board.getMoveHistory().size(); i++) {
-			Move moveToAdd = this.board.getMoveHistory().get(i);
-			simulatedBoardManager.addMove(moveToAdd);
-			boolean areBoardsEqual = Arrays.deepEquals(this.board.getPieces(),
-					simulatedBoardManager.getBoard().getPieces());
-			if (areBoardsEqual) {
-				counter++;
-			}
-		}
-
-		return counter >= 2;
+		return this.board.getRepetitionCountAcrossPawnMoves() >= 3;
 	}
 
 	/**
@@ -138,19 +138,7 @@ public class BoardManager {
 
 		// for this purpose a "move" consists of a player completing his turn
 		// followed by his opponent completing his turn
-		if (this.board.getMoveHistory().size() < 100) {
-			return false;
-		}
-
-		for (int i = this.board.getMoveHistory().size() - 1; i >= this.board.getMoveHistory().size() - 100; i--) {
-			Move currentMove = this.board.getMoveHistory().get(i);
-			PieceType currentPieceType = currentMove.getMovedPiece().getType();
-			if (currentMove.getType() != MoveType.ATTACK || currentPieceType == PieceType.PAWN) {
-				return false;
-			}
-		}
-
-		return true;
+		return this.board.getHalfmoveClock() >= 100;
 	}
 
 	// PRIVATE
@@ -186,49 +174,7 @@ public class BoardManager {
 
 	private void addMove(Move move) {
 
-		addRegularMove(move);
-
-		if (move.getType() == MoveType.CASTLING) {
-			addCastling(move);
-		} else if (move.getType() == MoveType.EN_PASSANT) {
-			addEnPassant(move);
-		}
-
-		this.board.getMoveHistory().add(move);
-	}
-
-	private void addRegularMove(Move move) {
-		Piece movedPiece = this.board.getPieceAt(move.getFrom());
-		this.board.setPieceAt(null, move.getFrom());
-		this.board.setPieceAt(movedPiece, move.getTo());
-
-		performPromotion(move, movedPiece);
-	}
-
-	private void performPromotion(Move move, Piece movedPiece) {
-		if (movedPiece == Piece.WHITE_PAWN && move.getTo().getY() == (Board.SIZE - 1)) {
-			this.board.setPieceAt(Piece.WHITE_QUEEN, move.getTo());
-		}
-		if (movedPiece == Piece.BLACK_PAWN && move.getTo().getY() == 0) {
-			this.board.setPieceAt(Piece.BLACK_QUEEN, move.getTo());
-		}
-	}
-
-	private void addCastling(Move move) {
-		if (move.getFrom().getX() > move.getTo().getX()) {
-			Piece rook = this.board.getPieceAt(new Coordinate(0, move.getFrom().getY()));
-			this.board.setPieceAt(null, new Coordinate(0, move.getFrom().getY()));
-			this.board.setPieceAt(rook, new Coordinate(move.getTo().getX() + 1, move.getTo().getY()));
-		} else {
-			Piece rook = this.board.getPieceAt(new Coordinate(Board.SIZE - 1, move.getFrom().getY()));
-			this.board.setPieceAt(null, new Coordinate(Board.SIZE - 1, move.getFrom().getY()));
-			this.board.setPieceAt(rook, new Coordinate(move.getTo().getX() - 1, move.getTo().getY()));
-		}
-	}
-
-	private void addEnPassant(Move move) {
-		Move lastMove = this.board.getMoveHistory().get(this.board.getMoveHistory().size() - 1);
-		this.board.setPieceAt(null, lastMove.getTo());
+		this.board.addMove(move);
 	}
 
 	private Move validateMove(Coordinate from, Coordinate to) throws InvalidMoveException, KingInCheckException {
@@ -237,35 +183,16 @@ public class BoardManager {
 	}
 
 	private boolean isKingInCheck(Color kingColor) {
-		MovementManager movementManager = new MovementManager(this.board);
-		return movementManager.isKingInCheckValidator(kingColor);
+		return AttackDetector.isKingInCheck(this.board, kingColor);
 	}
 
 	private boolean isAnyMoveValid(Color nextMoveColor) {
-		MovementManager movementManager = new MovementManager(this.board);
-		return movementManager.areAnyPossibleMoves(nextMoveColor);
+		MoveGenerator moveGenerator = new MoveGenerator(this.board);
+		return moveGenerator.hasAnyLegalMove(nextMoveColor);
 	}
 
 	private Color calculateNextMoveColor() {
-		if (this.board.getMoveHistory().size() % 2 == 0) {
-			return Color.WHITE;
-		} else {
-			return Color.BLACK;
-		}
-	}
-
-	private int findLastNonAttackMoveIndex() {
-		int counter = 0;
-		int lastNonAttackMoveIndex = 0;
-
-		for (Move move : this.board.getMoveHistory()) {
-			if (move.getType() != MoveType.ATTACK) {
-				lastNonAttackMoveIndex = counter;
-			}
-			counter++;
-		}
-
-		return lastNonAttackMoveIndex;
+		return this.board.getSideToMove();
 	}
 
 }
@@ -0,0 +1,192 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.CastlingRights;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
+
+/**
+ * Reads and writes positions in Forsyth-Edwards Notation. A board read from
+ * FEN has empty move history; side to move and move number are kept as its
+ * start ply. En passant square is kept only when a pawn can capture there,
+ * the same way the board tracks it during the game.
+ */
+public final class Fen {
+
+	public static final String INITIAL_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+	private static final String PIECE_SYMBOLS = "KQBNRPkqbnrp";
+	private static final String CASTLING_SYMBOLS = "KQkq";
+	private static final int[] CASTLING_RIGHTS = { CastlingRights.WHITE_KINGSIDE, CastlingRights.WHITE_QUEENSIDE,
+			CastlingRights.BLACK_KINGSIDE, CastlingRights.BLACK_QUEENSIDE };
+
+	private Fen() {
+	}
+
+	/**
+	 * Creates board with position given in FEN. Halfmove clock and fullmove
+	 * number may be omitted.
+	 *
+	 * @param fen position in FEN
+	 * @return new board
+	 * @throws InvalidFenException in case FEN is malformed
+	 */
+	public static Board parse(String fen) throws InvalidFenException {
+		String[] fields = fen.trim().split("\\s+");
+		if (fields.length < 4 || fields.length > 6) {
+			throw new InvalidFenException("Expected 4 to 6 fields: " + fen);
+		}
+		Board board = new Board();
+		parsePlacement(board, fields[0]);
+		Color sideToMove = parseSideToMove(fields[1]);
+		board.setCastlingRights(parseCastlingRights(fields[2]));
+		board.setEnPassantSquare(parseEnPassantSquare(board, fields[3], sideToMove));
+		board.setHalfmoveClock((fields.length > 4) ? parseNumber(fields[4], 0) : 0);
+		int fullmoveNumber = (fields.length > 5) ? parseNumber(fields[5], 1) : 1;
+		board.setStartPly(2 * (fullmoveNumber - 1) + ((sideToMove == Color.BLACK) ? 1 : 0));
+		return board;
+	}
+
+	/**
+	 * Writes position of given board in FEN
+	 *
+	 * @param board chess board
+	 * @return position in FEN
+	 */
+	public static String toFen(Board board) {
+		StringBuilder fen = new StringBuilder(90);
+		for (int y = Board.SIZE - 1; y >= 0; y--) {
+			int empty = 0;
+			for (int x = 0; x < Board.SIZE; x++) {
+				Piece piece = board.getPieceAt(Bitboards.square(x, y));
+				if (piece == null) {
+					empty++;
+					continue;
+				}
+				if (empty > 0) {
+					fen.append(empty);
+					empty = 0;
+				}
+				fen.append(PIECE_SYMBOLS.charAt(piece.ordinal()));
+			}
+			if (empty > 0) {
+				fen.append(empty);
+			}
+			if (y > 0) {
+				fen.append('/');
+			}
+		}
+
+		fen.append(' ').append((board.getSideToMove() == Color.WHITE) ? 'w' : 'b').append(' ');
+		int castlingRights = board.getCastlingRights();
+		if (castlingRights == CastlingRights.NONE) {
+			fen.append('-');
+		}
+		for (int i = 0; i < CASTLING_RIGHTS.length; i++) {
+			if ((castlingRights & CASTLING_RIGHTS[i]) != 0) {
+				fen.append(CASTLING_SYMBOLS.charAt(i));
+			}
+		}
+
+		int enPassantSquare = board.getEnPassantSquare();
+		fen.append(' ');
+		if (enPassantSquare == Bitboards.NO_SQUARE) {
+			fen.append('-');
+		} else {
+			fen.append((char) ('a' + Bitboards.fileOf(enPassantSquare)))
+					.append((char) ('1' + Bitboards.rankOf(enPassantSquare)));
+		}
+		fen.append(' ').append(board.getHalfmoveClock()).append(' ').append(board.getPly() / 2 + 1);
+		return fen.toString();
+	}
+
+	private static void parsePlacement(Board board, String placement) throws InvalidFenException {
+		String[] ranks = placement.split("/", -1);
+		if (ranks.length != Board.SIZE) {
+			throw new InvalidFenException("Expected " + Board.SIZE + " ranks: " + placement);
+		}
+		for (int i = 0; i < ranks.length; i++) {
+			int y = Board.SIZE - 1 - i;
+			int x = 0;
+			for (char symbol : ranks[i].toCharArray()) {
+				if (symbol >= '1' && symbol <= '8') {
+					x += symbol - '0';
+				} else {
+					int index = PIECE_SYMBOLS.indexOf(symbol);
+					if (index < 0 || x >= Board.SIZE) {
+						throw new InvalidFenException("Unexpected '" + symbol + "' in rank: " + ranks[i]);
+					}
+					board.setPieceAt(Piece.values()[index], Bitboards.square(x++, y));
+				}
+				if (x > Board.SIZE) {
+					throw new InvalidFenException("Rank too long: " + ranks[i]);
+				}
+			}
+			if (x != Board.SIZE) {
+				throw new InvalidFenException("Rank too short: " + ranks[i]);
+			}
+		}
+	}
+
+	private static Color parseSideToMove(String field) throws InvalidFenException {
+		switch (field) {
+		case "w":
+			return Color.WHITE;
+		case "b":
+			return Color.BLACK;
+		default:
+			throw new InvalidFenException("Unexpected side to move: " + field);
+		}
+	}
+
+	private static int parseCastlingRights(String field) throws InvalidFenException {
+		if (field.equals("-")) {
+			return CastlingRights.NONE;
+		}
+		int castlingRights = CastlingRights.NONE;
+		for (char symbol : field.toCharArray()) {
+			int index = CASTLING_SYMBOLS.indexOf(symbol);
+			if (index < 0) {
+				throw new InvalidFenException("Unexpected castling right: " + field);
+			}
+			castlingRights |= CASTLING_RIGHTS[index];
+		}
+		return castlingRights;
+	}
+
+	private static int parseEnPassantSquare(Board board, String field, Color sideToMove)
+			throws InvalidFenException {
+		if (field.equals("-")) {
+			return Bitboards.NO_SQUARE;
+		}
+		int rank = (sideToMove == Color.WHITE) ? Board.SIZE - 3 : 2;
+		if (field.length() != 2 || field.charAt(0) < 'a' || field.charAt(0) > 'h'
+				|| field.charAt(1) - '1' != rank) {
+			throw new InvalidFenException("Unexpected en passant square: " + field);
+		}
+		int file = field.charAt(0) - 'a';
+		int pawnRank = (sideToMove == Color.WHITE) ? rank - 1 : rank + 1;
+		Piece capturingPawn = Piece.of(PieceType.PAWN, sideToMove);
+		for (int x = file - 1; x <= file + 1; x += 2) {
+			if (Bitboards.isOnBoard(x, pawnRank) && board.getPieceAt(Bitboards.square(x, pawnRank)) == capturingPawn) {
+				return Bitboards.square(file, rank);
+			}
+		}
+		return Bitboards.NO_SQUARE;
+	}
+
+	private static int parseNumber(String field, int min) throws InvalidFenException {
+		try {
+			int number = Integer.parseInt(field);
+			if (number >= min) {
+				return number;
+			}
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		throw new InvalidFenException("Unexpected move counter: " + field);
+	}
+}
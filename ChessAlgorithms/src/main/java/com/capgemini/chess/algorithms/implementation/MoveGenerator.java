@@ -0,0 +1,295 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.enums.ValidationResult;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.attacks.AttackDetector;
+import com.capgemini.chess.algorithms.implementation.attacks.LeaperAttacks;
+import com.capgemini.chess.algorithms.implementation.attacks.SlidingAttacks;
+
+/**
+ * Generates moves which pieces of given color can perform on the board.
+ * Checking and pinned pieces are found once per position; destinations of
+ * every piece are then restricted to the check mask (capture the checker or
+ * block its ray) and, for pinned pieces, to the pin ray, so no move has to be
+ * tried on the board. Only en passant, which removes two pieces from one
+ * rank, is confirmed by making the move.
+ * <p>
+ * That move is made on the generator's board and taken back, so generating
+ * moves or calling {@link #hasAnyLegalMove(Color)} temporarily modifies the
+ * board. The generator also keeps per-position state; neither it nor its
+ * board may be used by several threads at once.
+ */
+public class MoveGenerator {
+
+	private static final long ALL_SQUARES = ~0L;
+
+	private final Board board;
+	private final long[] pinRays = new long[Bitboards.SQUARES];
+
+	private Color color;
+	private Color enemyColor;
+	private int kingSquare;
+	private long checkers;
+	private long checkMask;
+	private long pinned;
+
+	public MoveGenerator(Board board) {
+		this.board = board;
+	}
+
+	/**
+	 * Lists all valid moves of given player.
+	 *
+	 * @param color color of moving player
+	 * @return list of valid moves
+	 */
+	public List<Move> generateLegalMoves(Color color) {
+		MoveList packedMoves = new MoveList();
+		generateLegalMoves(color, packedMoves);
+
+		List<Move> moves = new ArrayList<>(packedMoves.size());
+		for (int i = 0; i < packedMoves.size(); i++) {
+			int move = packedMoves.get(i);
+			moves.add(PackedMove.toMove(move, board.getPieceAt(PackedMove.from(move))));
+		}
+		return moves;
+	}
+
+	/**
+	 * Fills given buffer with all valid moves of given player in
+	 * {@link PackedMove} encoding. Previous content of the buffer is dropped.
+	 *
+	 * @param color color of moving player
+	 * @param moves buffer for generated moves
+	 */
+	public void generateLegalMoves(Color color, MoveList moves) {
+		moves.clear();
+		generate(color, moves, false, false);
+	}
+
+	/**
+	 * Fills given buffer with valid captures, en passant captures and
+	 * promotions of given player only, in {@link PackedMove} encoding.
+	 * Previous content of the buffer is dropped.
+	 *
+	 * @param color color of moving player
+	 * @param moves buffer for generated moves
+	 */
+	public void generateLegalCaptures(Color color, MoveList moves) {
+		moves.clear();
+		generate(color, moves, false, true);
+	}
+
+	/**
+	 * Checks if given player can perform at least one valid move. Search
+	 * stops at the first valid move found.
+	 *
+	 * @param color color of moving player
+	 * @return true if any valid move exists, false otherwise
+	 */
+	public boolean hasAnyLegalMove(Color color) {
+		return generate(color, null, true, false);
+	}
+
+	private boolean generate(Color color, MoveList moves, boolean stopAtFirst, boolean capturesOnly) {
+		computeMasks(color);
+		long ownPieces = board.getColorBitboard(color);
+		long captureTargets = capturesOnly ? board.getColorBitboard(enemyColor) : ALL_SQUARES;
+		long pawnTargets = capturesOnly ? captureTargets | promotionRank() : ALL_SQUARES;
+		boolean found = false;
+
+		if (kingSquare != Bitboards.NO_SQUARE) {
+			long occupiedWithoutKing = board.getOccupied() & ~Bitboards.bit(kingSquare);
+			long targets = LeaperAttacks.kingAttacks(kingSquare) & ~ownPieces & captureTargets;
+			while (targets != 0) {
+				int to = Bitboards.firstSquare(targets);
+				targets = Bitboards.withoutFirstSquare(targets);
+				if (AttackDetector.attackersOf(board, to, enemyColor, occupiedWithoutKing) == 0) {
+					found = addMove(moves, kingSquare, to, null);
+					if (stopAtFirst) {
+						return true;
+					}
+				}
+			}
+			if (checkers == 0 && !capturesOnly) {
+				found |= addCastlings(moves);
+				if (found && stopAtFirst) {
+					return true;
+				}
+			}
+			if (Bitboards.count(checkers) > 1) {
+				return found;
+			}
+		}
+
+		long pieces = ownPieces & ~board.getBitboard(Piece.of(PieceType.KING, color));
+		while (pieces != 0) {
+			int from = Bitboards.firstSquare(pieces);
+			pieces = Bitboards.withoutFirstSquare(pieces);
+
+			Piece piece = board.getPieceAt(from);
+			long targets = pieceTargets(piece, from) & ~ownPieces & checkMask
+					& (piece.getType() == PieceType.PAWN ? pawnTargets : captureTargets);
+			if (Bitboards.contains(pinned, from)) {
+				targets &= pinRays[from];
+			}
+			while (targets != 0) {
+				int to = Bitboards.firstSquare(targets);
+				targets = Bitboards.withoutFirstSquare(targets);
+				found = addMove(moves, from, to, null);
+				if (stopAtFirst) {
+					return true;
+				}
+			}
+			if (piece.getType() == PieceType.PAWN && addEnPassant(moves, from)) {
+				found = true;
+				if (stopAtFirst) {
+					return true;
+				}
+			}
+		}
+		return found;
+	}
+
+	private void computeMasks(Color color) {
+		this.color = color;
+		this.enemyColor = color.opposite();
+		this.kingSquare = AttackDetector.findKing(board, color);
+		this.checkers = 0;
+		this.checkMask = ALL_SQUARES;
+		this.pinned = 0;
+		if (kingSquare == Bitboards.NO_SQUARE) {
+			return;
+		}
+
+		long occupied = board.getOccupied();
+		checkers = AttackDetector.attackersOf(board, kingSquare, enemyColor, occupied);
+		if (Bitboards.count(checkers) == 1) {
+			checkMask = checkers | SlidingAttacks.between(kingSquare, Bitboards.firstSquare(checkers));
+		} else if (checkers != 0) {
+			checkMask = 0;
+		}
+
+		long enemyPieces = board.getColorBitboard(enemyColor);
+		long enemyQueens = board.getBitboard(Piece.of(PieceType.QUEEN, enemyColor));
+		long snipers = SlidingAttacks.rookAttacks(kingSquare, enemyPieces)
+				& (board.getBitboard(Piece.of(PieceType.ROOK, enemyColor)) | enemyQueens);
+		snipers |= SlidingAttacks.bishopAttacks(kingSquare, enemyPieces)
+				& (board.getBitboard(Piece.of(PieceType.BISHOP, enemyColor)) | enemyQueens);
+		while (snipers != 0) {
+			int sniper = Bitboards.firstSquare(snipers);
+			snipers = Bitboards.withoutFirstSquare(snipers);
+			long ray = SlidingAttacks.between(kingSquare, sniper);
+			long blockers = ray & occupied;
+			if (Bitboards.count(blockers) == 1 && (blockers & board.getColorBitboard(color)) != 0) {
+				pinned |= blockers;
+				pinRays[Bitboards.firstSquare(blockers)] = ray | Bitboards.bit(sniper);
+			}
+		}
+	}
+
+	private long pieceTargets(Piece piece, int square) {
+		long occupied = board.getOccupied();
+		switch (piece.getType()) {
+		case QUEEN:
+			return SlidingAttacks.queenAttacks(square, occupied);
+		case BISHOP:
+			return SlidingAttacks.bishopAttacks(square, occupied);
+		case KNIGHT:
+			return LeaperAttacks.knightAttacks(square);
+		case ROOK:
+			return SlidingAttacks.rookAttacks(square, occupied);
+		case PAWN:
+			return pawnTargets(square, occupied);
+		default:
+			return Bitboards.EMPTY;
+		}
+	}
+
+	private long pawnTargets(int square, long occupied) {
+		long targets = LeaperAttacks.pawnAttacks(color, square) & board.getColorBitboard(enemyColor);
+		int rank = Bitboards.rankOf(square);
+		int direction = (color == Color.WHITE) ? 1 : -1;
+		int startRank = (color == Color.WHITE) ? 1 : Board.SIZE - 2;
+		if (rank + direction < 0 || rank + direction >= Board.SIZE) {
+			return targets;
+		}
+		int oneStep = square + direction * Board.SIZE;
+		if (!Bitboards.contains(occupied, oneStep)) {
+			targets |= Bitboards.bit(oneStep);
+			int twoSteps = oneStep + direction * Board.SIZE;
+			if (rank == startRank && !Bitboards.contains(occupied, twoSteps)) {
+				targets |= Bitboards.bit(twoSteps);
+			}
+		}
+		return targets;
+	}
+
+	private long promotionRank() {
+		return (color == Color.WHITE) ? Bitboards.RANK_8 : Bitboards.RANK_1;
+	}
+
+	private boolean addEnPassant(MoveList moves, int from) {
+		int target = enPassantTarget();
+		if (target == Bitboards.NO_SQUARE || !Bitboards.contains(LeaperAttacks.pawnAttacks(color, from), target)) {
+			return false;
+		}
+		board.makeMove(from, target, MoveType.EN_PASSANT);
+		boolean kingInCheck = AttackDetector.isKingInCheck(board, color);
+		board.unmakeMove();
+		return !kingInCheck && addMove(moves, from, target, MoveType.EN_PASSANT);
+	}
+
+	private int enPassantTarget() {
+		int target = board.getEnPassantSquare();
+		int enemyPushRank = (color == Color.WHITE) ? Board.SIZE - 3 : 2;
+		if (target == Bitboards.NO_SQUARE || Bitboards.rankOf(target) != enemyPushRank) {
+			return Bitboards.NO_SQUARE;
+		}
+		return target;
+	}
+
+	private boolean addCastlings(MoveList moves) {
+		boolean added = false;
+		Coordinate from = Bitboards.coordinateOf(kingSquare);
+		for (int targetX = from.getX() - 2; targetX <= from.getX() + 2; targetX += 4) {
+			if (!Bitboards.isOnBoard(targetX, from.getY())) {
+				continue;
+			}
+			Coordinate to = new Coordinate(targetX, from.getY());
+			if (MoveValidation.checkIgnoringTurn(board, from, to) == ValidationResult.CASTLING) {
+				added = addMove(moves, kingSquare, Bitboards.square(to), MoveType.CASTLING);
+			}
+		}
+		return added;
+	}
+
+	private boolean addMove(MoveList moves, int from, int to, MoveType type) {
+		if (moves != null) {
+			if (type != null) {
+				moves.add(PackedMove.of(from, to, type));
+				return true;
+			}
+			boolean capture = board.getPieceAt(to) != null;
+			int lastRank = (color == Color.WHITE) ? Board.SIZE - 1 : 0;
+			if (Bitboards.rankOf(to) == lastRank && board.getPieceAt(from).getType() == PieceType.PAWN) {
+				moves.add(PackedMove.promotion(from, to, capture, PieceType.QUEEN));
+			} else {
+				moves.add(PackedMove.of(from, to, capture ? MoveType.CAPTURE : MoveType.ATTACK));
+			}
+		}
+		return true;
+	}
+}
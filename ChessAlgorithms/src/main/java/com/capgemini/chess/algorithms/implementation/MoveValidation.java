@@ -0,0 +1,179 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static com.capgemini.chess.algorithms.data.PredicateFactory.*;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.CastlingRights;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.enums.ValidationResult;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.attacks.AttackDetector;
+import com.capgemini.chess.algorithms.implementation.attacks.LeaperAttacks;
+import com.capgemini.chess.algorithms.implementation.attacks.SlidingAttacks;
+
+/**
+ * Validates moves without throwing exceptions. Every rejected move is
+ * reported as {@link ValidationResult#INVALID}, or as
+ * {@link ValidationResult#KING_IN_CHECK} when the move itself is possible but
+ * would leave (or, for castling, move) the king through an attacked square.
+ * <p>
+ * King safety is tested by making the move on the given board and taking it
+ * back, so the board is temporarily modified during a check. It is left as
+ * it was, but a board must not be validated while another thread reads or
+ * changes it.
+ */
+public final class MoveValidation {
+
+	private MoveValidation() {
+	}
+
+	/**
+	 * Validates move of the player whose turn it is. The board is
+	 * temporarily modified and must not be shared with other threads
+	 * meanwhile.
+	 *
+	 * @param board chess board
+	 * @param from move source
+	 * @param to move destination
+	 * @return validation result
+	 */
+	public static ValidationResult check(Board board, Coordinate from, Coordinate to) {
+		return check(board, from, to, board.getSideToMove());
+	}
+
+	/**
+	 * Validates move of the piece standing on the source square, regardless
+	 * of whose turn it is. The board is temporarily modified, as in
+	 * {@link #check(Board, Coordinate, Coordinate)}.
+	 *
+	 * @param board chess board
+	 * @param from move source
+	 * @param to move destination
+	 * @return validation result
+	 */
+	public static ValidationResult checkIgnoringTurn(Board board, Coordinate from, Coordinate to) {
+		return check(board, from, to, null);
+	}
+
+	private static ValidationResult check(Board board, Coordinate from, Coordinate to, Color playerColor) {
+		if (pieceOutOfBoard().test(from, to)) {
+			return ValidationResult.INVALID;
+		}
+		Piece piece = board.getPieceAt(from);
+		if (piece == null || (playerColor != null && piece.getColor() != playerColor) || from.equals(to)) {
+			return ValidationResult.INVALID;
+		}
+
+		int fromSquare = Bitboards.square(from);
+		int toSquare = Bitboards.square(to);
+		long occupied = board.getOccupied();
+		switch (piece.getType()) {
+		case KING:
+			if (Math.abs(from.getX() - to.getX()) == 2) {
+				return checkCastling(board, from, to);
+			}
+			return checkReachable(board, fromSquare, toSquare, LeaperAttacks.kingAttacks(fromSquare));
+		case QUEEN:
+			return checkReachable(board, fromSquare, toSquare, SlidingAttacks.queenAttacks(fromSquare, occupied));
+		case BISHOP:
+			return checkReachable(board, fromSquare, toSquare, SlidingAttacks.bishopAttacks(fromSquare, occupied));
+		case KNIGHT:
+			return checkReachable(board, fromSquare, toSquare, LeaperAttacks.knightAttacks(fromSquare));
+		case ROOK:
+			return checkReachable(board, fromSquare, toSquare, SlidingAttacks.rookAttacks(fromSquare, occupied));
+		case PAWN:
+			return checkPawn(board, from, to);
+		default:
+			return ValidationResult.INVALID;
+		}
+	}
+
+	private static ValidationResult checkReachable(Board board, int from, int to, long attacks) {
+		if (!Bitboards.contains(attacks, to)) {
+			return ValidationResult.INVALID;
+		}
+		Piece piece = board.getPieceAt(from);
+		Piece target = board.getPieceAt(to);
+		if (target == null) {
+			return kingStaysSafe(board, from, to, MoveType.ATTACK, piece.getColor(), ValidationResult.ATTACK);
+		} else if (target.getColor() != piece.getColor()) {
+			return kingStaysSafe(board, from, to, MoveType.ATTACK, piece.getColor(), ValidationResult.CAPTURE);
+		}
+		return ValidationResult.INVALID;
+	}
+
+	private static ValidationResult checkPawn(Board board, Coordinate from, Coordinate to) {
+		Piece pawn = board.getPieceAt(from);
+		Color color = pawn.getColor();
+		int fromSquare = Bitboards.square(from);
+		int toSquare = Bitboards.square(to);
+
+		if (Bitboards.contains(LeaperAttacks.pawnAttacks(color, fromSquare), toSquare)) {
+			Piece target = board.getPieceAt(toSquare);
+			if (target == null) {
+				if (board.getEnPassantSquare() != toSquare || !isEnemyEnPassantSquare(toSquare, color)) {
+					return ValidationResult.INVALID;
+				}
+				return kingStaysSafe(board, fromSquare, toSquare, MoveType.EN_PASSANT, color,
+						ValidationResult.EN_PASSANT);
+			} else if (target.getColor() != color) {
+				return kingStaysSafe(board, fromSquare, toSquare, MoveType.ATTACK, color, ValidationResult.CAPTURE);
+			}
+			return ValidationResult.INVALID;
+		}
+
+		int direction = (color == Color.WHITE) ? 1 : -1;
+		int distance = (to.getY() - from.getY()) * direction;
+		int maxRange = pawnFirstMove().test(from, pawn) ? 2 : 1;
+		if (from.getX() != to.getX() || distance <= 0 || distance > maxRange) {
+			return ValidationResult.INVALID;
+		}
+		for (int i = 1; i <= distance; i++) {
+			if (board.getPieceAt(fromSquare + i * direction * Board.SIZE) != null) {
+				return ValidationResult.INVALID;
+			}
+		}
+		return kingStaysSafe(board, fromSquare, toSquare, MoveType.ATTACK, color, ValidationResult.ATTACK);
+	}
+
+	private static boolean isEnemyEnPassantSquare(int square, Color color) {
+		return Bitboards.rankOf(square) == ((color == Color.WHITE) ? Board.SIZE - 3 : 2);
+	}
+
+	private static ValidationResult checkCastling(Board board, Coordinate from, Coordinate to) {
+		Piece king = board.getPieceAt(from);
+		if (from.getY() != to.getY()) {
+			return ValidationResult.INVALID;
+		}
+		int kingSquare = Bitboards.square(from);
+		boolean kingside = to.getX() > from.getX();
+		int rookSquare = Bitboards.square(kingside ? Board.SIZE - 1 : 0, from.getY());
+		if (board.getPieceAt(rookSquare) != Piece.of(PieceType.ROOK, king.getColor())
+				|| !Bitboards.contains(SlidingAttacks.rookAttacks(kingSquare, board.getOccupied()), rookSquare)
+				|| board.getPieceAt(to) != null
+				|| (board.getCastlingRights() & CastlingRights.of(king.getColor(), kingside)) == 0) {
+			return ValidationResult.INVALID;
+		}
+
+		int direction = kingside ? 1 : -1;
+		Color enemyColor = king.getColor().opposite();
+		for (int i = 0; i <= 2; i++) {
+			if (AttackDetector.isSquareAttacked(board, kingSquare + i * direction, enemyColor)) {
+				return ValidationResult.KING_IN_CHECK;
+			}
+		}
+		return ValidationResult.CASTLING;
+	}
+
+	private static ValidationResult kingStaysSafe(Board board, int from, int to, MoveType type, Color color,
+			ValidationResult result) {
+		board.makeMove(from, to, type);
+		boolean kingInCheck = AttackDetector.isKingInCheck(board, color);
+		board.unmakeMove();
+		return kingInCheck ? ValidationResult.KING_IN_CHECK : result;
+	}
+}
@@ -0,0 +1,299 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.enums.ValidationResult;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.attacks.AttackDetector;
+import com.capgemini.chess.algorithms.implementation.attacks.LeaperAttacks;
+import com.capgemini.chess.algorithms.implementation.attacks.SlidingAttacks;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Reads and writes moves in Standard Algebraic Notation, e.g. "Nbd7", "exd5",
+ * "e8=Q+" or "O-O-O". Pieces which could make a move are found from the
+ * attack mask of the destination square for the moving piece type, so only
+ * those few candidates are validated; no move list is generated. Check
+ * suffix takes a single attack test on the enemy king.
+ */
+public final class San {
+
+	private static final String PIECE_LETTERS = "KQBNRP";
+	private static final String SUFFIXES = "+#!?";
+	private static final String KINGSIDE_CASTLING = "O-O";
+	private static final String QUEENSIDE_CASTLING = "O-O-O";
+
+	private San() {
+	}
+
+	/**
+	 * Finds legal move of the side to move described by given SAN
+	 *
+	 * @param board chess board
+	 * @param san move in SAN, check and annotation suffixes are ignored
+	 * @return move in {@link PackedMove} encoding
+	 * @throws InvalidMoveException in case SAN is malformed, ambiguous or
+	 *             describes no legal move
+	 */
+	public static int decode(Board board, String san) throws InvalidMoveException {
+		int end = san.length();
+		while (end > 0 && SUFFIXES.indexOf(san.charAt(end - 1)) >= 0) {
+			end--;
+		}
+		Color color = board.getSideToMove();
+		if (isCastling(san, end, false)) {
+			return decodeCastling(board, color, true, san);
+		} else if (isCastling(san, end, true)) {
+			return decodeCastling(board, color, false, san);
+		}
+
+		boolean promotion = false;
+		if (end > 0 && PIECE_LETTERS.indexOf(san.charAt(end - 1)) >= 0) {
+			if (san.charAt(end - 1) != 'Q') {
+				throw new InvalidMoveException("Under-promotion is not supported: " + san);
+			}
+			promotion = true;
+			end -= (end > 1 && san.charAt(end - 2) == '=') ? 2 : 1;
+		}
+
+		int start = 0;
+		PieceType type = PieceType.PAWN;
+		if (end > 0 && Character.isUpperCase(san.charAt(0))) {
+			type = pieceType(san.charAt(0), san);
+			start = 1;
+		}
+		if (end - start < 2) {
+			throw new InvalidMoveException("Malformed SAN: " + san);
+		}
+		int to = parseSquare(san.charAt(end - 2), san.charAt(end - 1), san);
+
+		long candidates = candidates(board, type, color, to);
+		for (int i = start; i < end - 2; i++) {
+			char c = san.charAt(i);
+			if (c >= 'a' && c <= 'h') {
+				candidates &= Bitboards.FILE_A << (c - 'a');
+			} else if (c >= '1' && c <= '8') {
+				candidates &= Bitboards.RANK_1 << (8 * (c - '1'));
+			} else if (c != 'x' && c != ':') {
+				throw new InvalidMoveException("Malformed SAN: " + san);
+			}
+		}
+
+		int found = PackedMove.NONE;
+		ValidationResult rejection = ValidationResult.INVALID;
+		for (; candidates != 0; candidates = Bitboards.withoutFirstSquare(candidates)) {
+			int from = Bitboards.firstSquare(candidates);
+			ValidationResult result = MoveValidation.check(board, Bitboards.coordinateOf(from),
+					Bitboards.coordinateOf(to));
+			if (!result.isValid()) {
+				rejection = result;
+				continue;
+			}
+			if (found != PackedMove.NONE) {
+				throw new InvalidMoveException("Ambiguous SAN: " + san);
+			}
+			found = isPromotion(type, to) ? PackedMove.promotion(from, to, result == ValidationResult.CAPTURE,
+					PieceType.QUEEN) : PackedMove.of(from, to, result.getMoveType());
+		}
+		if (found == PackedMove.NONE) {
+			throw new InvalidMoveException(((rejection == ValidationResult.KING_IN_CHECK)
+					? "King left in check: " : "No legal move matches SAN: ") + san);
+		}
+		if (PackedMove.isPromotion(found) != promotion) {
+			throw new InvalidMoveException("Promotion piece missing or unexpected: " + san);
+		}
+		return found;
+	}
+
+	/**
+	 * Finds legal move described by given SAN, see {@link #decode(Board, String)}
+	 *
+	 * @param board chess board
+	 * @param san move in SAN
+	 * @return move with moved piece set
+	 * @throws InvalidMoveException in case SAN describes no legal move
+	 */
+	public static Move decodeMove(Board board, String san) throws InvalidMoveException {
+		int move = decode(board, san);
+		return PackedMove.toMove(move, board.getPieceAt(PackedMove.from(move)));
+	}
+
+	/**
+	 * Writes legal move of the side to move in SAN, with check or mate suffix
+	 *
+	 * @param board chess board, left unchanged
+	 * @param move move in {@link PackedMove} encoding
+	 * @return move in SAN
+	 */
+	public static String encode(Board board, int move) {
+		int from = PackedMove.from(move);
+		int to = PackedMove.to(move);
+		MoveType type = PackedMove.type(move);
+		Piece piece = board.getPieceAt(from);
+		StringBuilder san = new StringBuilder(8);
+
+		if (type == MoveType.CASTLING) {
+			san.append((Bitboards.fileOf(to) > Bitboards.fileOf(from)) ? KINGSIDE_CASTLING : QUEENSIDE_CASTLING);
+		} else {
+			boolean capture = board.getPieceAt(to) != null || type == MoveType.EN_PASSANT;
+			if (piece.getType() == PieceType.PAWN) {
+				if (capture) {
+					san.append(fileName(from));
+				}
+			} else {
+				san.append(PIECE_LETTERS.charAt(piece.getType().ordinal()));
+				appendDisambiguation(san, board, piece, from, to);
+			}
+			if (capture) {
+				san.append('x');
+			}
+			san.append(fileName(to)).append(rankName(to));
+			if (PackedMove.isPromotion(move)) {
+				san.append('=').append(PIECE_LETTERS.charAt(PackedMove.promotionType(move).ordinal()));
+			}
+		}
+
+		Color enemyColor = piece.getColor().opposite();
+		board.makeMove(move);
+		if (AttackDetector.isKingInCheck(board, enemyColor)) {
+			san.append(new MoveGenerator(board).hasAnyLegalMove(enemyColor) ? '+' : '#');
+		}
+		board.unmakeMove();
+		return san.toString();
+	}
+
+	/**
+	 * Writes legal move of the side to move in SAN, see
+	 * {@link #encode(Board, int)}
+	 *
+	 * @param board chess board, left unchanged
+	 * @param move move with source, destination and type set
+	 * @return move in SAN
+	 */
+	public static String encode(Board board, Move move) {
+		return encode(board, PackedMove.fromMove(move));
+	}
+
+	/**
+	 * Pieces of given type and color which attack or, for pawns, move to
+	 * given square, not yet checked for legality
+	 */
+	private static long candidates(Board board, PieceType type, Color color, int to) {
+		long pieces = board.getBitboard(Piece.of(type, color));
+		long occupied = board.getOccupied();
+		switch (type) {
+		case KING:
+			return LeaperAttacks.kingAttacks(to) & pieces;
+		case QUEEN:
+			return SlidingAttacks.queenAttacks(to, occupied) & pieces;
+		case BISHOP:
+			return SlidingAttacks.bishopAttacks(to, occupied) & pieces;
+		case KNIGHT:
+			return LeaperAttacks.knightAttacks(to) & pieces;
+		case ROOK:
+			return SlidingAttacks.rookAttacks(to, occupied) & pieces;
+		default:
+			return pawnCandidates(board, color, to, pieces);
+		}
+	}
+
+	private static long pawnCandidates(Board board, Color color, int to, long pawns) {
+		if (Bitboards.contains(board.getOccupied(), to) || to == board.getEnPassantSquare()) {
+			return LeaperAttacks.pawnAttacks(color.opposite(), to) & pawns;
+		}
+		int back = (color == Color.WHITE) ? -Board.SIZE : Board.SIZE;
+		int single = to + back;
+		if (single < 0 || single >= Bitboards.SQUARES) {
+			return 0;
+		}
+		if (Bitboards.contains(pawns, single)) {
+			return Bitboards.bit(single);
+		}
+		int doubleRank = (color == Color.WHITE) ? 3 : Board.SIZE - 4;
+		if (Bitboards.rankOf(to) == doubleRank && board.getPieceAt(single) == null) {
+			return pawns & Bitboards.bit(single + back);
+		}
+		return 0;
+	}
+
+	private static void appendDisambiguation(StringBuilder san, Board board, Piece piece, int from, int to) {
+		long others = candidates(board, piece.getType(), piece.getColor(), to) & ~Bitboards.bit(from);
+		boolean sameFile = false;
+		boolean sameRank = false;
+		boolean ambiguous = false;
+		for (; others != 0; others = Bitboards.withoutFirstSquare(others)) {
+			int other = Bitboards.firstSquare(others);
+			if (!MoveValidation.check(board, Bitboards.coordinateOf(other), Bitboards.coordinateOf(to)).isValid()) {
+				continue;
+			}
+			ambiguous = true;
+			sameFile |= Bitboards.fileOf(other) == Bitboards.fileOf(from);
+			sameRank |= Bitboards.rankOf(other) == Bitboards.rankOf(from);
+		}
+		if (ambiguous && (!sameFile || sameRank)) {
+			san.append(fileName(from));
+		}
+		if (sameFile) {
+			san.append(rankName(from));
+		}
+	}
+
+	private static int decodeCastling(Board board, Color color, boolean kingside, String san)
+			throws InvalidMoveException {
+		int from = AttackDetector.findKing(board, color);
+		int to = from + (kingside ? 2 : -2);
+		if (from == Bitboards.NO_SQUARE || Bitboards.rankOf(from) != Bitboards.rankOf(to)
+				|| MoveValidation.check(board, Bitboards.coordinateOf(from),
+						Bitboards.coordinateOf(to)) != ValidationResult.CASTLING) {
+			throw new InvalidMoveException("Castling not allowed: " + san);
+		}
+		return PackedMove.of(from, to, MoveType.CASTLING);
+	}
+
+	private static boolean isCastling(String san, int end, boolean queenside) {
+		String castling = queenside ? QUEENSIDE_CASTLING : KINGSIDE_CASTLING;
+		if (end != castling.length()) {
+			return false;
+		}
+		for (int i = 0; i < end; i++) {
+			char c = san.charAt(i);
+			if (c != castling.charAt(i) && !(c == '0' && castling.charAt(i) == 'O')) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isPromotion(PieceType type, int to) {
+		int rank = Bitboards.rankOf(to);
+		return type == PieceType.PAWN && (rank == 0 || rank == Board.SIZE - 1);
+	}
+
+	private static PieceType pieceType(char letter, String san) throws InvalidMoveException {
+		int index = PIECE_LETTERS.indexOf(letter);
+		if (index < 0) {
+			throw new InvalidMoveException("Malformed SAN: " + san);
+		}
+		return PieceType.values()[index];
+	}
+
+	private static int parseSquare(char file, char rank, String san) throws InvalidMoveException {
+		if (file < 'a' || file > 'h' || rank < '1' || rank > '8') {
+			throw new InvalidMoveException("Malformed SAN: " + san);
+		}
+		return Bitboards.square(file - 'a', rank - '1');
+	}
+
+	private static char fileName(int square) {
+		return (char) ('a' + Bitboards.fileOf(square));
+	}
+
+	private static char rankName(int square) {
+		return (char) ('1' + Bitboards.rankOf(square));
+	}
+}
@@ -0,0 +1,80 @@
+package com.capgemini.chess.algorithms.implementation.attacks;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Answers whether a square is attacked by looking outward from the square:
+ * leaper patterns are intersected with enemy knights, king and pawns, and
+ * slider rays (stopping at the first blocker) with enemy rooks, bishops and
+ * queens.
+ */
+public final class AttackDetector {
+
+	private AttackDetector() {
+	}
+
+	/**
+	 * Checks if given square is attacked by any piece of given color
+	 *
+	 * @param board chess board
+	 * @param square square index
+	 * @param byColor color of attacking pieces
+	 * @return true if square is attacked, false otherwise
+	 */
+	public static boolean isSquareAttacked(Board board, int square, Color byColor) {
+		return attackersOf(board, square, byColor, board.getOccupied()) != 0;
+	}
+
+	/**
+	 * Finds all pieces of given color attacking given square, with sliding
+	 * attacks computed against the given occupancy instead of the board one
+	 *
+	 * @param board chess board
+	 * @param square square index
+	 * @param byColor color of attacking pieces
+	 * @param occupied occupancy used to stop sliding attacks
+	 * @return mask of attacking pieces
+	 */
+	public static long attackersOf(Board board, int square, Color byColor, long occupied) {
+		Color defender = byColor.opposite();
+		long queens = board.getBitboard(Piece.of(PieceType.QUEEN, byColor));
+		long rooksAndQueens = board.getBitboard(Piece.of(PieceType.ROOK, byColor)) | queens;
+		long bishopsAndQueens = board.getBitboard(Piece.of(PieceType.BISHOP, byColor)) | queens;
+
+		long attackers = LeaperAttacks.knightAttacks(square) & board.getBitboard(Piece.of(PieceType.KNIGHT, byColor));
+		attackers |= LeaperAttacks.kingAttacks(square) & board.getBitboard(Piece.of(PieceType.KING, byColor));
+		attackers |= LeaperAttacks.pawnAttacks(defender, square) & board.getBitboard(Piece.of(PieceType.PAWN, byColor));
+		attackers |= SlidingAttacks.rookAttacks(square, occupied) & rooksAndQueens;
+		attackers |= SlidingAttacks.bishopAttacks(square, occupied) & bishopsAndQueens;
+		return attackers & occupied;
+	}
+
+	/**
+	 * Checks if king of given color is attacked. Board without such king is
+	 * never in check.
+	 *
+	 * @param board chess board
+	 * @param kingColor color of the king
+	 * @return true if king is in check, false otherwise
+	 */
+	public static boolean isKingInCheck(Board board, Color kingColor) {
+		int kingSquare = findKing(board, kingColor);
+		return kingSquare != Bitboards.NO_SQUARE && isSquareAttacked(board, kingSquare, kingColor.opposite());
+	}
+
+	/**
+	 * Finds square of the king of given color
+	 *
+	 * @param board chess board
+	 * @param kingColor color of the king
+	 * @return square index or {@link Bitboards#NO_SQUARE}
+	 */
+	public static int findKing(Board board, Color kingColor) {
+		long king = board.getBitboard(Piece.of(PieceType.KING, kingColor));
+		return (king == 0) ? Bitboards.NO_SQUARE : Bitboards.firstSquare(king);
+	}
+}
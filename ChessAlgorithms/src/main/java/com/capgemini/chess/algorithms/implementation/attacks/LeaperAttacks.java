@@ -0,0 +1,77 @@
+package com.capgemini.chess.algorithms.implementation.attacks;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.Color;
+
+/**
+ * Precomputed per-square attack masks of pieces which do not slide: knights,
+ * kings and pawns of each color. Pawn masks hold capture squares only.
+ */
+public final class LeaperAttacks {
+
+	private static final int[][] KNIGHT_STEPS = { { 1, 2 }, { 2, 1 }, { 2, -1 }, { 1, -2 }, { -1, -2 }, { -2, -1 },
+			{ -2, 1 }, { -1, 2 } };
+	private static final int[][] KING_STEPS = { { 1, 0 }, { 1, 1 }, { 0, 1 }, { -1, 1 }, { -1, 0 }, { -1, -1 },
+			{ 0, -1 }, { 1, -1 } };
+	private static final int[][] WHITE_PAWN_STEPS = { { -1, 1 }, { 1, 1 } };
+	private static final int[][] BLACK_PAWN_STEPS = { { -1, -1 }, { 1, -1 } };
+
+	private static final long[] KNIGHT_ATTACKS = new long[Bitboards.SQUARES];
+	private static final long[] KING_ATTACKS = new long[Bitboards.SQUARES];
+	private static final long[][] PAWN_ATTACKS = new long[Color.values().length][Bitboards.SQUARES];
+
+	static {
+		for (int square = 0; square < Bitboards.SQUARES; square++) {
+			KNIGHT_ATTACKS[square] = stepMask(square, KNIGHT_STEPS);
+			KING_ATTACKS[square] = stepMask(square, KING_STEPS);
+			PAWN_ATTACKS[Color.WHITE.ordinal()][square] = stepMask(square, WHITE_PAWN_STEPS);
+			PAWN_ATTACKS[Color.BLACK.ordinal()][square] = stepMask(square, BLACK_PAWN_STEPS);
+		}
+	}
+
+	private LeaperAttacks() {
+	}
+
+	/**
+	 * Squares attacked by a knight
+	 *
+	 * @param square knight square
+	 * @return attacked squares
+	 */
+	public static long knightAttacks(int square) {
+		return KNIGHT_ATTACKS[square];
+	}
+
+	/**
+	 * Squares attacked by a king
+	 *
+	 * @param square king square
+	 * @return attacked squares
+	 */
+	public static long kingAttacks(int square) {
+		return KING_ATTACKS[square];
+	}
+
+	/**
+	 * Squares attacked (diagonally forward) by a pawn of given color
+	 *
+	 * @param color pawn color
+	 * @param square pawn square
+	 * @return attacked squares
+	 */
+	public static long pawnAttacks(Color color, int square) {
+		return PAWN_ATTACKS[color.ordinal()][square];
+	}
+
+	private static long stepMask(int square, int[][] steps) {
+		long mask = Bitboards.EMPTY;
+		for (int[] step : steps) {
+			int x = Bitboards.fileOf(square) + step[0];
+			int y = Bitboards.rankOf(square) + step[1];
+			if (Bitboards.isOnBoard(x, y)) {
+				mask |= Bitboards.bit(Bitboards.square(x, y));
+			}
+		}
+		return mask;
+	}
+}
@@ -0,0 +1,233 @@
+package com.capgemini.chess.algorithms.implementation.attacks;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+
+/**
+ * Precomputed attack sets of sliding pieces (rook, bishop, queen) based on
+ * magic bitboards. For every square the relevant blockers are extracted from
+ * the occupancy mask, multiplied by the square magic number and the top bits
+ * of the product index a table holding the complete attack set, so a lookup
+ * costs one multiplication and one array read regardless of the ray length.
+ * <p>
+ * Tables are filled when the class is loaded. Magic numbers found by the
+ * search below are stored as constants and only verified at startup; the
+ * search itself (fixed seed) runs only if a stored number ever collides.
+ */
+public final class SlidingAttacks {
+
+	private static final int[][] ROOK_DIRECTIONS = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+	private static final int[][] BISHOP_DIRECTIONS = { { 1, 1 }, { 1, -1 }, { -1, 1 }, { -1, -1 } };
+
+	private static final long[] KNOWN_ROOK_MAGICS = {
+			0x1080004008801020L, 0x0840092002C03000L, 0x1900200010400900L, 0x0880100008000480L,
+			0x4200100420080200L, 0x8100020100080400L, 0x0200040110886200L, 0x0200008040220411L,
+			0x0404800084400220L, 0x0000401000402000L, 0x0086001081220440L, 0x0408800800100280L,
+			0x000A001201040820L, 0x8848800200840080L, 0x4001000100040200L, 0x0442000102105084L,
+			0x9080010020804100L, 0x0040404000201009L, 0x0000808010002009L, 0x2200090021D00100L,
+			0x0008008008040080L, 0x0004004002010040L, 0x0011040008015042L, 0x00000A0001768104L,
+			0x0000800080204009L, 0x2010004140002001L, 0x9800200280100080L, 0x1000100080080080L,
+			0x0050500500080100L, 0x0000020080040080L, 0x0C10010400420810L, 0x1040008200005104L,
+			0x01808240088004A0L, 0x0882804004802000L, 0x0880402001001100L, 0x2000210409001000L,
+			0x2000480131001500L, 0x0000800400800200L, 0x000002380C001003L, 0x4600084882000431L,
+			0x0080002000504000L, 0x0300500020004002L, 0x0040408200220011L, 0x0010040008004040L,
+			0x0000080004008080L, 0x0010040002008080L, 0x2012004881020004L, 0x8300842444820011L,
+			0x0088403882010200L, 0x0820400080210100L, 0x0110910040A00300L, 0x0801100280080480L,
+			0x0242009008200600L, 0x1002000489500200L, 0x0040800200010080L, 0x0091800041000080L,
+			0x0000209300488001L, 0x04C1002414824001L, 0x020020000B001041L, 0x7000100004200901L,
+			0x8002002004100802L, 0x30010002084C0007L, 0x0888221800813004L, 0x4000002840840112L };
+	private static final long[] KNOWN_BISHOP_MAGICS = {
+			0x20C0090901061081L, 0x0024040094030104L, 0x8210810200290200L, 0x0011040484620000L,
+			0x0081104002221000L, 0x0009012011001350L, 0x0081010802400380L, 0x0000420210010408L,
+			0x0008105002280050L, 0x0001028484040044L, 0x2A00880810408804L, 0x7020022282000100L,
+			0x0084040420100A50L, 0x000401010840E000L, 0x2020020210420888L, 0x0008084202012010L,
+			0x2010400810018800L, 0x0445122008020840L, 0x0804100808002008L, 0x0008002104110100L,
+			0x0061005820080800L, 0x2001000200820100L, 0x480C210084010800L, 0x3004442500480420L,
+			0x1010102240048100L, 0x00182009084220A3L, 0x8803090A10004205L, 0x0208080040202020L,
+			0x000C044084010040L, 0x00A1010002004106L, 0x6008210020640202L, 0x1600902112860801L,
+			0x00042008C1220200L, 0x010C042002440140L, 0x5022080200040820L, 0x0402004042940100L,
+			0x0860108400008020L, 0x000C080022021000L, 0x0264080652822100L, 0x4005031221010401L,
+			0x0004502410008400L, 0x000500B010A20400L, 0x0415094050080800L, 0x080000201800A104L,
+			0x4022A80304000110L, 0x4012140802028020L, 0x40200104010100A0L, 0x12810806008B0C41L,
+			0x0020441008080000L, 0x2002120084045420L, 0x0704020062080002L, 0x0000001084040001L,
+			0x0322200891240200L, 0xF040200210024800L, 0x0140824832008042L, 0x000210020A004602L,
+			0x0083042805141020L, 0x002C12009A011000L, 0x0041A00044140400L, 0x00004004020A0202L,
+			0x0000140010020210L, 0x2864160811012200L, 0x2060080841082A17L, 0xA010041108003100L };
+
+	private static final long[] ROOK_MASKS = new long[Bitboards.SQUARES];
+	private static final long[] ROOK_MAGICS = new long[Bitboards.SQUARES];
+	private static final int[] ROOK_SHIFTS = new int[Bitboards.SQUARES];
+	private static final long[][] ROOK_ATTACKS = new long[Bitboards.SQUARES][];
+
+	private static final long[] BISHOP_MASKS = new long[Bitboards.SQUARES];
+	private static final long[] BISHOP_MAGICS = new long[Bitboards.SQUARES];
+	private static final int[] BISHOP_SHIFTS = new int[Bitboards.SQUARES];
+	private static final long[][] BISHOP_ATTACKS = new long[Bitboards.SQUARES][];
+
+	private static final long[][] BETWEEN = new long[Bitboards.SQUARES][Bitboards.SQUARES];
+
+	private static long seed = 0x9E3779B97F4A7C15L;
+
+	static {
+		for (int square = 0; square < Bitboards.SQUARES; square++) {
+			initBetween(square, ROOK_DIRECTIONS);
+			initBetween(square, BISHOP_DIRECTIONS);
+			initSquare(square, ROOK_DIRECTIONS, KNOWN_ROOK_MAGICS[square], ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS,
+					ROOK_ATTACKS);
+			initSquare(square, BISHOP_DIRECTIONS, KNOWN_BISHOP_MAGICS[square], BISHOP_MASKS, BISHOP_MAGICS,
+					BISHOP_SHIFTS, BISHOP_ATTACKS);
+		}
+	}
+
+	private SlidingAttacks() {
+	}
+
+	/**
+	 * Squares attacked by a rook
+	 *
+	 * @param square rook square
+	 * @param occupied mask of all occupied squares
+	 * @return attacked squares, including the first blocker on every ray
+	 */
+	public static long rookAttacks(int square, long occupied) {
+		int index = (int) (((occupied & ROOK_MASKS[square]) * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square]);
+		return ROOK_ATTACKS[square][index];
+	}
+
+	/**
+	 * Squares attacked by a bishop
+	 *
+	 * @param square bishop square
+	 * @param occupied mask of all occupied squares
+	 * @return attacked squares, including the first blocker on every ray
+	 */
+	public static long bishopAttacks(int square, long occupied) {
+		int index = (int) (((occupied & BISHOP_MASKS[square]) * BISHOP_MAGICS[square]) >>> BISHOP_SHIFTS[square]);
+		return BISHOP_ATTACKS[square][index];
+	}
+
+	/**
+	 * Squares attacked by a queen
+	 *
+	 * @param square queen square
+	 * @param occupied mask of all occupied squares
+	 * @return attacked squares, including the first blocker on every ray
+	 */
+	public static long queenAttacks(int square, long occupied) {
+		return rookAttacks(square, occupied) | bishopAttacks(square, occupied);
+	}
+
+	/**
+	 * Squares strictly between two squares lying on a common line
+	 *
+	 * @param from first square
+	 * @param to second square
+	 * @return squares between, empty if squares are not aligned
+	 */
+	public static long between(int from, int to) {
+		return BETWEEN[from][to];
+	}
+
+	private static void initBetween(int square, int[][] directions) {
+		for (int[] direction : directions) {
+			long path = Bitboards.EMPTY;
+			int x = Bitboards.fileOf(square) + direction[0];
+			int y = Bitboards.rankOf(square) + direction[1];
+			while (Bitboards.isOnBoard(x, y)) {
+				int target = Bitboards.square(x, y);
+				BETWEEN[square][target] = path;
+				path |= Bitboards.bit(target);
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+	}
+
+	private static void initSquare(int square, int[][] directions, long knownMagic, long[] masks, long[] magics,
+			int[] shifts, long[][] attacks) {
+		long mask = relevantOccupancy(square, directions);
+		int bits = Bitboards.count(mask);
+		int size = 1 << bits;
+
+		long[] occupancies = new long[size];
+		long[] references = new long[size];
+		long subset = 0;
+		for (int i = 0; i < size; i++) {
+			occupancies[i] = subset;
+			references[i] = slowAttacks(square, subset, directions);
+			subset = (subset - mask) & mask;
+		}
+
+		long[] table = new long[size];
+		int[] epoch = new int[size];
+		int attempt = 1;
+		long magic = knownMagic;
+		while (!fillTable(magic, bits, occupancies, references, table, epoch, attempt)) {
+			attempt++;
+			do {
+				magic = sparseRandom();
+			} while (Bitboards.count((mask * magic) & 0xFF00000000000000L) < 6);
+		}
+
+		masks[square] = mask;
+		magics[square] = magic;
+		shifts[square] = 64 - bits;
+		attacks[square] = table;
+	}
+
+	private static boolean fillTable(long magic, int bits, long[] occupancies, long[] references, long[] table,
+			int[] epoch, int attempt) {
+		for (int i = 0; i < occupancies.length; i++) {
+			int index = (int) ((occupancies[i] * magic) >>> (64 - bits));
+			if (epoch[index] < attempt) {
+				epoch[index] = attempt;
+				table[index] = references[i];
+			} else if (table[index] != references[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long relevantOccupancy(int square, int[][] directions) {
+		long mask = Bitboards.EMPTY;
+		for (int[] direction : directions) {
+			int x = Bitboards.fileOf(square) + direction[0];
+			int y = Bitboards.rankOf(square) + direction[1];
+			while (Bitboards.isOnBoard(x + direction[0], y + direction[1])) {
+				mask |= Bitboards.bit(Bitboards.square(x, y));
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+		return mask;
+	}
+
+	private static long slowAttacks(int square, long occupied, int[][] directions) {
+		long attacks = Bitboards.EMPTY;
+		for (int[] direction : directions) {
+			int x = Bitboards.fileOf(square) + direction[0];
+			int y = Bitboards.rankOf(square) + direction[1];
+			while (Bitboards.isOnBoard(x, y)) {
+				int target = Bitboards.square(x, y);
+				attacks |= Bitboards.bit(target);
+				if (Bitboards.contains(occupied, target)) {
+					break;
+				}
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+		return attacks;
+	}
+
+	private static long sparseRandom() {
+		return nextRandom() & nextRandom() & nextRandom();
+	}
+
+	private static long nextRandom() {
+		seed ^= seed >>> 12;
+		seed ^= seed << 25;
+		seed ^= seed >>> 27;
+		return seed * 0x2545F4914F6CDD1DL;
+	}
+}
@@ -0,0 +1,124 @@
+package com.capgemini.chess.algorithms.implementation.attacks;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Static exchange evaluation: material balance of the capture sequence on
+ * the destination square of a move, with both sides recapturing with their
+ * least valuable attacker and free to stop when further captures lose.
+ * Attacker sets come from {@link AttackDetector#attackersOf} against an
+ * occupancy with captured pieces removed, so sliders behind them (x-rays)
+ * join the exchange. Pins are ignored. The board is not modified.
+ */
+public final class StaticExchange {
+
+	private static final PieceType[] BY_VALUE = { PieceType.PAWN, PieceType.KNIGHT, PieceType.BISHOP,
+			PieceType.ROOK, PieceType.QUEEN, PieceType.KING };
+	private static final int PROMOTION_GAIN = PieceType.QUEEN.getValue() - PieceType.PAWN.getValue();
+
+	private StaticExchange() {
+	}
+
+	/**
+	 * Evaluates exchange started by given move of the side to move
+	 *
+	 * @param board board before the move
+	 * @param move packed move
+	 * @return material gain in centipawns for the moving side, negative if
+	 *         the move loses material
+	 */
+	public static int evaluate(Board board, int move) {
+		int from = PackedMove.from(move);
+		int to = PackedMove.to(move);
+		MoveType type = PackedMove.type(move);
+		Piece mover = board.getPieceAt(from);
+		Color side = mover.getColor();
+
+		// balance for the moving side; the exchange is searched as a minimax
+		// in which either side may stop capturing, narrowing the window
+		int balance = 0;
+		long occupied = board.getOccupied() & ~Bitboards.bit(from);
+		if (type == MoveType.EN_PASSANT) {
+			balance = PieceType.PAWN.getValue();
+			occupied &= ~Bitboards.bit(Bitboards.square(Bitboards.fileOf(to), Bitboards.rankOf(from)));
+		} else if (type == MoveType.CAPTURE) {
+			balance = board.getPieceAt(to).getType().getValue();
+		}
+		int pieceOnSquare = mover.getType().getValue();
+		if (PackedMove.isPromotion(move)) {
+			balance += PROMOTION_GAIN;
+			pieceOnSquare = PieceType.QUEEN.getValue();
+		}
+
+		int lower = -Integer.MAX_VALUE;
+		int upper = Integer.MAX_VALUE;
+		Color toMove = side.opposite();
+		while (true) {
+			if (toMove == side) {
+				if (balance >= upper) {
+					return upper;
+				}
+				lower = Math.max(lower, balance);
+			} else {
+				if (balance <= lower) {
+					return lower;
+				}
+				upper = Math.min(upper, balance);
+			}
+
+			long attackers = AttackDetector.attackersOf(board, to, toMove, occupied);
+			if (attackers == 0) {
+				break;
+			}
+			PieceType attackerType = null;
+			long attacker = 0;
+			for (PieceType candidate : BY_VALUE) {
+				attacker = attackers & board.getBitboard(Piece.of(candidate, toMove));
+				if (attacker != 0) {
+					attackerType = candidate;
+					break;
+				}
+			}
+			occupied &= ~Bitboards.bit(Bitboards.firstSquare(attacker));
+			if (attackerType == PieceType.KING
+					&& AttackDetector.attackersOf(board, to, toMove.opposite(), occupied) != 0) {
+				break;
+			}
+
+			int gain = pieceOnSquare;
+			pieceOnSquare = attackerType.getValue();
+			if (attackerType == PieceType.PAWN && isLastRank(to)) {
+				gain += PROMOTION_GAIN;
+				pieceOnSquare = PieceType.QUEEN.getValue();
+			}
+			balance += (toMove == side) ? gain : -gain;
+			toMove = toMove.opposite();
+		}
+		return Math.max(lower, Math.min(upper, balance));
+	}
+
+	/**
+	 * Evaluates exchange started by given move of the side to move, e.g. to
+	 * warn that a move hangs material
+	 *
+	 * @param board board before the move
+	 * @param move chess move with all fields set
+	 * @return material gain in centipawns for the moving side, negative if
+	 *         the move loses material
+	 */
+	public static int evaluate(Board board, Move move) {
+		return evaluate(board, PackedMove.fromMove(move));
+	}
+
+	private static boolean isLastRank(int square) {
+		int rank = Bitboards.rankOf(square);
+		return rank == 0 || rank == Board.SIZE - 1;
+	}
+}
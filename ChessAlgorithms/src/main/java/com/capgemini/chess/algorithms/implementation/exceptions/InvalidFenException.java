@@ -0,0 +1,13 @@
+package com.capgemini.chess.algorithms.implementation.exceptions;
+
+/**
+ * Exception thrown in case position given in FEN cannot be read
+ */
+public class InvalidFenException extends Exception {
+
+	private static final long serialVersionUID = 4718206409127851562L;
+
+	public InvalidFenException(String message) {
+		super("Invalid FEN! " + message);
+	}
+}
@@ -0,0 +1,120 @@
+package com.capgemini.chess.algorithms.implementation.perft;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.MoveGenerator;
+
+/**
+ * Perft which splits the top plies of the move tree into fork-join tasks.
+ * Every task works on its own copy of the board; below the split plies
+ * subtrees are counted sequentially by {@link Perft}. All threads share one
+ * {@link PerftHashTable}, so transposed subtrees are counted once.
+ */
+public class ParallelPerft {
+
+	private static final int DEFAULT_SPLIT_PLIES = 2;
+	private static final int DEFAULT_HASH_BITS = 22;
+	private static final int MIN_SEQUENTIAL_DEPTH = 3;
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	private final ForkJoinPool pool;
+	private final PerftHashTable hashTable;
+	private final int splitPlies;
+
+	public ParallelPerft() {
+		this(ForkJoinPool.commonPool(), new PerftHashTable(DEFAULT_HASH_BITS), DEFAULT_SPLIT_PLIES);
+	}
+
+	/**
+	 * @param pool pool running the tasks
+	 * @param hashTable subtree counts cache or null
+	 * @param splitPlies number of plies from the root split into tasks
+	 */
+	public ParallelPerft(ForkJoinPool pool, PerftHashTable hashTable, int splitPlies) {
+		this.pool = pool;
+		this.hashTable = hashTable;
+		this.splitPlies = splitPlies;
+	}
+
+	/**
+	 * Counts positions reachable from given board in exactly given number of
+	 * plies. The board is not modified.
+	 *
+	 * @param board chess board
+	 * @param depth number of plies
+	 * @return number of leaf nodes
+	 */
+	public long perft(Board board, int depth) {
+		return pool.invoke(new PerftTask(new Board(board), depth, splitPlies));
+	}
+
+	/**
+	 * Runs parallel perft on a reference position and prints node count,
+	 * time and node rate. Arguments: position name (default START), depth
+	 * (default the deepest known one) and number of threads (default all
+	 * cores).
+	 *
+	 * @param args command line arguments
+	 */
+	public static void main(String[] args) {
+		PerftPosition position = (args.length > 0) ? PerftPosition.valueOf(args[0]) : PerftPosition.START;
+		int depth = (args.length > 1) ? Integer.parseInt(args[1]) : position.getMaxDepth();
+		int threads = (args.length > 2) ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		ParallelPerft perft = new ParallelPerft(pool, new PerftHashTable(DEFAULT_HASH_BITS), DEFAULT_SPLIT_PLIES);
+		long start = System.nanoTime();
+		long nodes = perft.perft(position.createBoard(), depth);
+		long elapsed = Math.max(System.nanoTime() - start, 1);
+		pool.shutdown();
+
+		System.out.println("Threads: " + threads);
+		System.out.println("Nodes: " + nodes);
+		System.out.println("Time: " + elapsed / 1_000_000 + " ms");
+		System.out.println("Nodes/s: " + nodes * NANOS_PER_SECOND / elapsed);
+		if (depth <= position.getMaxDepth()) {
+			long expected = position.getExpectedNodes(depth);
+			System.out.println((nodes == expected) ? "OK" : "MISMATCH, expected " + expected);
+		}
+	}
+
+	private class PerftTask extends RecursiveTask<Long> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient Board board;
+		private final int depth;
+		private final int splitPlies;
+
+		PerftTask(Board board, int depth, int splitPlies) {
+			this.board = board;
+			this.depth = depth;
+			this.splitPlies = splitPlies;
+		}
+
+		@Override
+		protected Long compute() {
+			if (splitPlies == 0 || depth < MIN_SEQUENTIAL_DEPTH) {
+				return new Perft(board, hashTable).perft(depth);
+			}
+			MoveList moves = new MoveList();
+			new MoveGenerator(board).generateLegalMoves(board.getSideToMove(), moves);
+			List<PerftTask> tasks = new ArrayList<>(moves.size());
+			for (int i = 0; i < moves.size(); i++) {
+				Board child = new Board(board);
+				child.makeMove(moves.get(i));
+				tasks.add(new PerftTask(child, depth - 1, splitPlies - 1));
+			}
+			long nodes = 0;
+			for (PerftTask task : invokeAll(tasks)) {
+				nodes += task.join();
+			}
+			return nodes;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package com.capgemini.chess.algorithms.implementation.perft;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.MoveGenerator;
+
+/**
+ * Counts leaf nodes of the legal move tree to a fixed depth. Used to check
+ * move generation against known results and to measure its speed. Moves are
+ * made and taken back on the given board, which is left unchanged.
+ * <p>
+ * The tree is walked with {@link MoveGenerator}, which is what
+ * {@link com.capgemini.chess.algorithms.implementation.BoardManager} and
+ * {@link com.capgemini.chess.algorithms.implementation.MovementManager} use
+ * for legal moves, instead of through those classes. Their per-move history
+ * and exceptions would dominate the count.
+ */
+public class Perft {
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	private final Board board;
+	private final MoveGenerator moveGenerator;
+	private final PerftHashTable hashTable;
+	private MoveList[] moveLists = new MoveList[0];
+
+	public Perft(Board board) {
+		this(board, null);
+	}
+
+	/**
+	 * Creates perft which reuses subtree counts stored in given table, which
+	 * may be shared with other threads
+	 *
+	 * @param board chess board
+	 * @param hashTable subtree counts cache or null
+	 */
+	public Perft(Board board, PerftHashTable hashTable) {
+		this.board = board;
+		this.moveGenerator = new MoveGenerator(board);
+		this.hashTable = hashTable;
+	}
+
+	/**
+	 * Counts positions reachable in exactly given number of plies
+	 *
+	 * @param depth number of plies
+	 * @return number of leaf nodes
+	 */
+	public long perft(int depth) {
+		ensureMoveLists(depth);
+		return count(depth);
+	}
+
+	/**
+	 * Counts leaf nodes separately for every move of the side to move
+	 *
+	 * @param depth number of plies, including the root move
+	 * @return leaf nodes per root move in coordinate notation, e.g. "e2e4"
+	 */
+	public Map<String, Long> divide(int depth) {
+		ensureMoveLists(depth);
+		Map<String, Long> result = new LinkedHashMap<>();
+		MoveList moves = new MoveList();
+		moveGenerator.generateLegalMoves(board.getSideToMove(), moves);
+		for (int i = 0; i < moves.size(); i++) {
+			int move = moves.get(i);
+			board.makeMove(move);
+			result.put(toCoordinateNotation(move), count(depth - 1));
+			board.unmakeMove();
+		}
+		return result;
+	}
+
+	/**
+	 * Prints divide output followed by total node count, time and node rate
+	 *
+	 * @param depth number of plies
+	 * @param out output stream
+	 * @return total number of leaf nodes
+	 */
+	public long report(int depth, PrintStream out) {
+		long start = System.nanoTime();
+		Map<String, Long> divide = divide(depth);
+		long elapsed = Math.max(System.nanoTime() - start, 1);
+
+		long nodes = 0;
+		for (Map.Entry<String, Long> entry : divide.entrySet()) {
+			out.println(entry.getKey() + ": " + entry.getValue());
+			nodes += entry.getValue();
+		}
+		out.println();
+		out.println("Moves: " + divide.size());
+		out.println("Nodes: " + nodes);
+		out.println("Time: " + elapsed / 1_000_000 + " ms");
+		out.println("Nodes/s: " + nodes * NANOS_PER_SECOND / elapsed);
+		return nodes;
+	}
+
+	/**
+	 * Runs perft on a reference position and compares the result with the
+	 * published count. Arguments: position name (default START) and depth
+	 * (default the deepest known one).
+	 *
+	 * @param args command line arguments
+	 */
+	public static void main(String[] args) {
+		PerftPosition position = (args.length > 0) ? PerftPosition.valueOf(args[0]) : PerftPosition.START;
+		int depth = (args.length > 1) ? Integer.parseInt(args[1]) : position.getMaxDepth();
+
+		long nodes = new Perft(position.createBoard()).report(depth, System.out);
+		if (depth <= position.getMaxDepth()) {
+			long expected = position.getExpectedNodes(depth);
+			System.out.println((nodes == expected) ? "OK" : "MISMATCH, expected " + expected);
+		}
+	}
+
+	private long count(int depth) {
+		if (depth == 0) {
+			return 1;
+		}
+		long key = 0;
+		if (hashTable != null && depth > 1) {
+			key = board.getZobristKey();
+			long nodes = hashTable.probe(key, depth);
+			if (nodes >= 0) {
+				return nodes;
+			}
+		}
+		MoveList moves = moveLists[depth];
+		moveGenerator.generateLegalMoves(board.getSideToMove(), moves);
+		if (depth == 1) {
+			return moves.size();
+		}
+		long nodes = 0;
+		for (int i = 0; i < moves.size(); i++) {
+			board.makeMove(moves.get(i));
+			nodes += count(depth - 1);
+			board.unmakeMove();
+		}
+		if (hashTable != null) {
+			hashTable.store(key, depth, nodes);
+		}
+		return nodes;
+	}
+
+	private void ensureMoveLists(int depth) {
+		if (moveLists.length <= depth) {
+			MoveList[] lists = new MoveList[depth + 1];
+			for (int i = 0; i < lists.length; i++) {
+				lists[i] = (i < moveLists.length) ? moveLists[i] : new MoveList();
+			}
+			moveLists = lists;
+		}
+	}
+
+	private static String toCoordinateNotation(int move) {
+		String notation = squareName(PackedMove.from(move)) + squareName(PackedMove.to(move));
+		return PackedMove.isPromotion(move) ? notation + "q" : notation;
+	}
+
+	private static String squareName(int square) {
+		return "" + (char) ('a' + Bitboards.fileOf(square)) + (char) ('1' + Bitboards.rankOf(square));
+	}
+}
@@ -0,0 +1,65 @@
+package com.capgemini.chess.algorithms.implementation.perft;
+
+/**
+ * Lock-free cache of subtree node counts keyed on position key and depth,
+ * shared by all perft threads. Every entry takes two longs: the data word
+ * (node count and depth) and the position key XOR-ed with it. Threads write
+ * without synchronization; an entry torn by concurrent writes does not pass
+ * the XOR check and is treated as a miss.
+ */
+public class PerftHashTable {
+
+	private static final int DEPTH_BITS = 8;
+	private static final long DEPTH_MASK = (1L << DEPTH_BITS) - 1;
+
+	private final long[] entries;
+	private final int mask;
+
+	/**
+	 * Creates a table with given number of entries
+	 *
+	 * @param sizeBits base-2 logarithm of the number of entries
+	 */
+	public PerftHashTable(int sizeBits) {
+		if (sizeBits < 1 || sizeBits > 28) {
+			throw new IllegalArgumentException("Table size bits out of range: " + sizeBits);
+		}
+		this.entries = new long[2 << sizeBits];
+		this.mask = (1 << sizeBits) - 1;
+	}
+
+	/**
+	 * Looks up node count of given position searched to given depth
+	 *
+	 * @param key position Zobrist key
+	 * @param depth remaining depth
+	 * @return node count or -1 if not found
+	 */
+	public long probe(long key, int depth) {
+		int index = index(key, depth);
+		long data = entries[index + 1];
+		if ((entries[index] ^ data) != key || (data & DEPTH_MASK) != depth) {
+			return -1;
+		}
+		return data >>> DEPTH_BITS;
+	}
+
+	/**
+	 * Stores node count of given position, replacing the previous entry in
+	 * the same slot
+	 *
+	 * @param key position Zobrist key
+	 * @param depth remaining depth
+	 * @param nodes node count
+	 */
+	public void store(long key, int depth, long nodes) {
+		int index = index(key, depth);
+		long data = (nodes << DEPTH_BITS) | depth;
+		entries[index] = key ^ data;
+		entries[index + 1] = data;
+	}
+
+	private int index(long key, int depth) {
+		return (((int) (key ^ (key >>> 32)) + depth) & mask) << 1;
+	}
+}
@@ -0,0 +1,65 @@
+package com.capgemini.chess.algorithms.implementation.perft;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.Fen;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
+
+/**
+ * Reference positions with published perft results. Only depths without
+ * under-promotions are listed, as the board always promotes to queen.
+ */
+public enum PerftPosition {
+
+	START(Fen.INITIAL_POSITION, 20, 400, 8902, 197281, 4865609),
+
+	KIWIPETE("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1", 48, 2039, 97862),
+
+	ENDGAME("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1", 14, 191, 2812, 43238, 674624);
+
+	private final String fen;
+	private final long[] expectedNodes;
+
+	private PerftPosition(String fen, long... expectedNodes) {
+		this.fen = fen;
+		this.expectedNodes = expectedNodes;
+	}
+
+	/**
+	 * @return position in Forsyth-Edwards Notation
+	 */
+	public String getFen() {
+		return fen;
+	}
+
+	/**
+	 * Creates a new board with this position
+	 *
+	 * @return board
+	 */
+	public Board createBoard() {
+		try {
+			return Fen.parse(fen);
+		} catch (InvalidFenException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Deepest depth with a known node count
+	 *
+	 * @return max depth
+	 */
+	public int getMaxDepth() {
+		return expectedNodes.length;
+	}
+
+	/**
+	 * Published node count for given depth
+	 *
+	 * @param depth depth from 1 to {@link #getMaxDepth()}
+	 * @return expected leaf nodes
+	 */
+	public long getExpectedNodes(int depth) {
+		return expectedNodes[depth - 1];
+	}
+}
@@ -0,0 +1,63 @@
+package com.capgemini.chess.algorithms.implementation.pgn;
+
+/**
+ * Rejected move of a PGN game, with the position in which it was played
+ */
+public class PgnError {
+
+	private final int gameNumber;
+	private final int gameLine;
+	private final int ply;
+	private final String move;
+	private final String fen;
+	private final String message;
+
+	public PgnError(PgnGame game, int ply, String move, String fen, String message) {
+		this.gameNumber = game.getNumber();
+		this.gameLine = game.getLine();
+		this.ply = ply;
+		this.move = move;
+		this.fen = fen;
+		this.message = message;
+	}
+
+	public int getGameNumber() {
+		return gameNumber;
+	}
+
+	public int getGameLine() {
+		return gameLine;
+	}
+
+	/**
+	 * Ply of the rejected move within the game
+	 *
+	 * @return ply, starting from 1
+	 */
+	public int getPly() {
+		return ply;
+	}
+
+	public String getMove() {
+		return move;
+	}
+
+	/**
+	 * Position before the rejected move
+	 *
+	 * @return position in FEN
+	 */
+	public String getFen() {
+		return fen;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	@Override
+	public String toString() {
+		return "Game " + gameNumber + " (line " + gameLine + "), ply " + ply + " " + move + ": " + message
+				+ " [" + fen + "]";
+	}
+}
@@ -0,0 +1,68 @@
+package com.capgemini.chess.algorithms.implementation.pgn;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single game read by {@link PgnReader}: tag pairs, main line moves in SAN
+ * and the game termination marker. Comments, variations and annotation
+ * glyphs are dropped while reading.
+ */
+public class PgnGame {
+
+	private final int number;
+	private final int line;
+	private final Map<String, String> tags = new LinkedHashMap<>();
+	private final List<String> moves = new ArrayList<>();
+	private String result;
+
+	public PgnGame(int number, int line) {
+		this.number = number;
+		this.line = line;
+	}
+
+	/**
+	 * Position of the game in the file
+	 *
+	 * @return game number, starting from 1
+	 */
+	public int getNumber() {
+		return number;
+	}
+
+	/**
+	 * Line on which the game starts
+	 *
+	 * @return line number, starting from 1
+	 */
+	public int getLine() {
+		return line;
+	}
+
+	public Map<String, String> getTags() {
+		return tags;
+	}
+
+	public String getTag(String name) {
+		return tags.get(name);
+	}
+
+	public List<String> getMoves() {
+		return moves;
+	}
+
+	/**
+	 * Game termination marker: "1-0", "0-1", "1/2-1/2" or "*"
+	 *
+	 * @return result or null if the game ended without one
+	 */
+	public String getResult() {
+		return result;
+	}
+
+	public void setResult(String result) {
+		this.result = result;
+	}
+}
@@ -0,0 +1,219 @@
+package com.capgemini.chess.algorithms.implementation.pgn;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streaming PGN reader returning one game at a time. Input is scanned byte
+ * by byte from a fixed size buffer, so memory use does not depend on file
+ * size; only the tags and main line moves of the current game are kept.
+ * PGN is read as ISO 8859-1, as the standard requires.
+ */
+public class PgnReader implements Closeable {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int EOF = -1;
+	private static final String TOKEN_DELIMITERS = "[]{}();$";
+
+	private final InputStream in;
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+	private final StringBuilder token = new StringBuilder(32);
+	private int position;
+	private int limit;
+	private int pushedBack = EOF;
+	private int line = 1;
+	private int gameCount;
+
+	public PgnReader(InputStream in) {
+		this.in = in;
+	}
+
+	/**
+	 * Opens reader of given file
+	 *
+	 * @param path PGN file
+	 * @return reader, to be closed by the caller
+	 * @throws IOException in case file cannot be opened
+	 */
+	public static PgnReader open(Path path) throws IOException {
+		return new PgnReader(Files.newInputStream(path));
+	}
+
+	/**
+	 * Reads next game. A game ends with a termination marker, with the tag
+	 * section of the next game or with the end of input.
+	 *
+	 * @return game or null if there are no more games
+	 * @throws IOException in case input cannot be read
+	 */
+	public PgnGame next() throws IOException {
+		PgnGame game = null;
+		int c;
+		while ((c = read()) != EOF) {
+			if (Character.isWhitespace(c)) {
+				continue;
+			}
+			if (c == '[') {
+				if (game != null && !game.getMoves().isEmpty()) {
+					pushedBack = c;
+					return game;
+				}
+				game = (game != null) ? game : newGame();
+				readTag(game);
+			} else if (c == '{') {
+				skipUntil('}');
+			} else if (c == ';' || c == '%') {
+				skipUntil('\n');
+			} else if (c == '(') {
+				skipVariation();
+			} else if (c == '$') {
+				readToken(c);
+			} else if (c == ')' || c == ']' || c == '}') {
+				continue;
+			} else {
+				game = (game != null) ? game : newGame();
+				if (readMoveText(game, c)) {
+					return game;
+				}
+			}
+		}
+		return game;
+	}
+
+	/**
+	 * Current line of input
+	 *
+	 * @return line number, starting from 1
+	 */
+	public int getLine() {
+		return line;
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+	private PgnGame newGame() {
+		return new PgnGame(++gameCount, line);
+	}
+
+	/**
+	 * @return true if the token ended the game
+	 */
+	private boolean readMoveText(PgnGame game, int first) throws IOException {
+		String text = readToken(first);
+		if (text.equals("1-0") || text.equals("0-1") || text.equals("1/2-1/2") || text.equals("*")) {
+			game.setResult(text);
+			return true;
+		}
+		if (text.startsWith("0-0")) {
+			game.getMoves().add(text);
+			return false;
+		}
+		int start = 0;
+		while (start < text.length() && Character.isDigit(text.charAt(start))) {
+			start++;
+		}
+		if (start > 0 && (start == text.length() || text.charAt(start) != '.')) {
+			start = 0;
+		}
+		while (start < text.length() && text.charAt(start) == '.') {
+			start++;
+		}
+		if (start < text.length()) {
+			game.getMoves().add(text.substring(start));
+		}
+		return false;
+	}
+
+	private String readToken(int first) throws IOException {
+		token.setLength(0);
+		token.append((char) first);
+		int c;
+		while ((c = read()) != EOF) {
+			if (Character.isWhitespace(c) || TOKEN_DELIMITERS.indexOf(c) >= 0) {
+				pushedBack = c;
+				break;
+			}
+			token.append((char) c);
+		}
+		return token.toString();
+	}
+
+	private void readTag(PgnGame game) throws IOException {
+		token.setLength(0);
+		int c = read();
+		while (c != EOF && Character.isWhitespace(c)) {
+			c = read();
+		}
+		while (c != EOF && !Character.isWhitespace(c) && c != '"' && c != ']') {
+			token.append((char) c);
+			c = read();
+		}
+		String name = token.toString();
+		while (c != EOF && c != '"' && c != ']') {
+			c = read();
+		}
+		token.setLength(0);
+		if (c == '"') {
+			while ((c = read()) != EOF && c != '"') {
+				if (c == '\\') {
+					c = read();
+				}
+				if (c != EOF) {
+					token.append((char) c);
+				}
+			}
+			skipUntil(']');
+		}
+		game.getTags().put(name, token.toString());
+	}
+
+	private void skipUntil(int end) throws IOException {
+		int c;
+		do {
+			c = read();
+		} while (c != EOF && c != end);
+	}
+
+	private void skipVariation() throws IOException {
+		int depth = 1;
+		int c;
+		while (depth > 0 && (c = read()) != EOF) {
+			if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				depth--;
+			} else if (c == '{') {
+				skipUntil('}');
+			} else if (c == ';') {
+				skipUntil('\n');
+			}
+		}
+	}
+
+	private int read() throws IOException {
+		if (pushedBack != EOF) {
+			int c = pushedBack;
+			pushedBack = EOF;
+			return c;
+		}
+		if (position == limit) {
+			limit = in.read(buffer, 0, buffer.length);
+			position = 0;
+			if (limit <= 0) {
+				limit = 0;
+				return EOF;
+			}
+		}
+		int c = buffer[position++] & 0xFF;
+		if (c == '\n') {
+			line++;
+		}
+		return c;
+	}
+}
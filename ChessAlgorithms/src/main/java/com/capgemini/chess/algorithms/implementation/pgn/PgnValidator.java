@@ -0,0 +1,125 @@
+package com.capgemini.chess.algorithms.implementation.pgn;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.Fen;
+import com.capgemini.chess.algorithms.implementation.San;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Validates PGN games by playing every move with
+ * {@link BoardManager#performMove}, so the rules of
+ * {@link com.capgemini.chess.algorithms.implementation.MovementManager} apply.
+ * Games starting from a custom position are set up from their FEN tag.
+ */
+public class PgnValidator {
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	private long games;
+	private long invalidGames;
+	private long moves;
+	private long elapsedNanos;
+
+	/**
+	 * Plays given game until the end or the first rejected move
+	 *
+	 * @param game game to validate
+	 * @return rejected move or null if the whole game is valid
+	 */
+	public PgnError validate(PgnGame game) {
+		BoardManager boardManager;
+		String fen = game.getTag("FEN");
+		try {
+			boardManager = (fen != null) ? new BoardManager(Fen.parse(fen)) : new BoardManager();
+		} catch (InvalidFenException e) {
+			return new PgnError(game, 0, "", fen, e.getMessage());
+		}
+
+		List<String> sanMoves = game.getMoves();
+		for (int i = 0; i < sanMoves.size(); i++) {
+			String san = sanMoves.get(i);
+			try {
+				int move = San.decode(boardManager.getBoard(), san);
+				boardManager.performMove(Bitboards.coordinateOf(PackedMove.from(move)),
+						Bitboards.coordinateOf(PackedMove.to(move)));
+			} catch (InvalidMoveException e) {
+				return new PgnError(game, i + 1, san, Fen.toFen(boardManager.getBoard()), e.getMessage());
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Validates all remaining games of given reader
+	 *
+	 * @param reader PGN reader
+	 * @param errors receives the first rejected move of every invalid game
+	 * @throws IOException in case input cannot be read
+	 */
+	public void validateAll(PgnReader reader, Consumer<PgnError> errors) throws IOException {
+		long start = System.nanoTime();
+		PgnGame game;
+		while ((game = reader.next()) != null) {
+			games++;
+			moves += game.getMoves().size();
+			PgnError error = validate(game);
+			if (error != null) {
+				invalidGames++;
+				errors.accept(error);
+			}
+		}
+		elapsedNanos += System.nanoTime() - start;
+	}
+
+	public long getGames() {
+		return games;
+	}
+
+	public long getInvalidGames() {
+		return invalidGames;
+	}
+
+	public long getMoves() {
+		return moves;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Throughput of {@link #validateAll}, including reading
+	 *
+	 * @return validated games per second
+	 */
+	public double getGamesPerSecond() {
+		return (elapsedNanos == 0) ? 0 : (double) games * NANOS_PER_SECOND / elapsedNanos;
+	}
+
+	/**
+	 * Validates PGN file given as the only argument, printing rejected moves
+	 * and throughput
+	 *
+	 * @param args command line arguments
+	 * @throws IOException in case file cannot be read
+	 */
+	public static void main(String[] args) throws IOException {
+		PgnValidator validator = new PgnValidator();
+		try (PgnReader reader = PgnReader.open(Paths.get(args[0]))) {
+			validator.validateAll(reader, System.out::println);
+		}
+		System.out.println();
+		System.out.println("Games: " + validator.getGames() + ", invalid: " + validator.getInvalidGames());
+		System.out.println("Moves: " + validator.getMoves());
+		System.out.println("Time: " + validator.getElapsedNanos() / 1_000_000 + " ms");
+		System.out.println("Games/s: " + Math.round(validator.getGamesPerSecond()));
+	}
+}
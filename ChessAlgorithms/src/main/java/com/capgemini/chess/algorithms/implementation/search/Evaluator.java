@@ -0,0 +1,106 @@
+package com.capgemini.chess.algorithms.implementation.search;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Static evaluation: material plus piece-square bonuses, in centipawns from
+ * the point of view of the side to move. Tables are given for white from
+ * rank 1 (first row) to rank 8 and mirrored for black.
+ */
+public final class Evaluator {
+
+	private static final int[] PAWN_TABLE = {
+			0, 0, 0, 0, 0, 0, 0, 0,
+			5, 10, 10, -20, -20, 10, 10, 5,
+			5, -5, -10, 0, 0, -10, -5, 5,
+			0, 0, 0, 20, 20, 0, 0, 0,
+			5, 5, 10, 25, 25, 10, 5, 5,
+			10, 10, 20, 30, 30, 20, 10, 10,
+			50, 50, 50, 50, 50, 50, 50, 50,
+			0, 0, 0, 0, 0, 0, 0, 0 };
+
+	private static final int[] KNIGHT_TABLE = {
+			-50, -40, -30, -30, -30, -30, -40, -50,
+			-40, -20, 0, 5, 5, 0, -20, -40,
+			-30, 5, 10, 15, 15, 10, 5, -30,
+			-30, 0, 15, 20, 20, 15, 0, -30,
+			-30, 5, 15, 20, 20, 15, 5, -30,
+			-30, 0, 10, 15, 15, 10, 0, -30,
+			-40, -20, 0, 0, 0, 0, -20, -40,
+			-50, -40, -30, -30, -30, -30, -40, -50 };
+
+	private static final int[] BISHOP_TABLE = {
+			-20, -10, -10, -10, -10, -10, -10, -20,
+			-10, 5, 0, 0, 0, 0, 5, -10,
+			-10, 10, 10, 10, 10, 10, 10, -10,
+			-10, 0, 10, 10, 10, 10, 0, -10,
+			-10, 5, 5, 10, 10, 5, 5, -10,
+			-10, 0, 5, 10, 10, 5, 0, -10,
+			-10, 0, 0, 0, 0, 0, 0, -10,
+			-20, -10, -10, -10, -10, -10, -10, -20 };
+
+	private static final int[] ROOK_TABLE = {
+			0, 0, 0, 5, 5, 0, 0, 0,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			5, 10, 10, 10, 10, 10, 10, 5,
+			0, 0, 0, 0, 0, 0, 0, 0 };
+
+	private static final int[] KING_TABLE = {
+			20, 30, 10, 0, 0, 10, 30, 20,
+			20, 20, 0, 0, 0, 0, 20, 20,
+			-10, -20, -20, -20, -20, -20, -20, -10,
+			-20, -30, -30, -40, -40, -30, -30, -20,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30 };
+
+	private static final int[] QUEEN_TABLE = new int[Bitboards.SQUARES];
+
+	private static final int[][] TABLES = new int[PieceType.values().length][];
+
+	static {
+		TABLES[PieceType.KING.ordinal()] = KING_TABLE;
+		TABLES[PieceType.QUEEN.ordinal()] = QUEEN_TABLE;
+		TABLES[PieceType.BISHOP.ordinal()] = BISHOP_TABLE;
+		TABLES[PieceType.KNIGHT.ordinal()] = KNIGHT_TABLE;
+		TABLES[PieceType.ROOK.ordinal()] = ROOK_TABLE;
+		TABLES[PieceType.PAWN.ordinal()] = PAWN_TABLE;
+	}
+
+	private Evaluator() {
+	}
+
+	/**
+	 * Evaluates position for the side to move
+	 *
+	 * @param board chess board
+	 * @return score in centipawns, positive when the side to move is better
+	 */
+	public static int evaluate(Board board) {
+		int score = evaluate(board, Color.WHITE) - evaluate(board, Color.BLACK);
+		return (board.getSideToMove() == Color.WHITE) ? score : -score;
+	}
+
+	private static int evaluate(Board board, Color color) {
+		int mirror = (color == Color.WHITE) ? 0 : Bitboards.SQUARES - Board.SIZE;
+		int score = 0;
+		for (PieceType type : PieceType.values()) {
+			int[] table = TABLES[type.ordinal()];
+			int value = (type == PieceType.KING) ? 0 : type.getValue();
+			for (long pieces = board.getBitboard(Piece.of(type, color)); pieces != 0;
+					pieces = Bitboards.withoutFirstSquare(pieces)) {
+				score += value + table[Bitboards.firstSquare(pieces) ^ mirror];
+			}
+		}
+		return score;
+	}
+}
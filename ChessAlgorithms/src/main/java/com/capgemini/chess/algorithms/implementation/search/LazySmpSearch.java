@@ -0,0 +1,115 @@
+package com.capgemini.chess.algorithms.implementation.search;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.Fen;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
+
+/**
+ * Multi-threaded search in which every thread searches the same root
+ * position with its own {@link SearchEngine}, i.e. its own board copy and
+ * move stack, and all threads share one {@link TranspositionTable}. Helper
+ * threads differ in root move order and starting depth; they speed up the
+ * main thread by filling the table. The result is the one of the main
+ * thread, with nodes of all threads counted.
+ */
+public class LazySmpSearch {
+
+	private static final long NANOS_PER_MILLI = 1_000_000L;
+	private static final int REPORT_TABLE_MEGABYTES = 64;
+	private static final String[] REPORT_POSITIONS = { Fen.INITIAL_POSITION,
+			"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+			"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1" };
+
+	private final Board board;
+	private final int threads;
+	private final TranspositionTable transpositionTable;
+
+	/**
+	 * @param board chess board, copied by every thread
+	 * @param threads number of threads, including the main one
+	 * @param transpositionTable table shared by all threads
+	 */
+	public LazySmpSearch(Board board, int threads, TranspositionTable transpositionTable) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("At least one thread required: " + threads);
+		}
+		this.board = board;
+		this.threads = threads;
+		this.transpositionTable = transpositionTable;
+	}
+
+	/**
+	 * Searches best move of the side to move
+	 *
+	 * @param limits depth and time limits of the main thread
+	 * @return best move, score and statistics of all threads
+	 */
+	public SearchResult search(SearchLimits limits) {
+		long start = System.nanoTime();
+		AtomicBoolean stopSignal = new AtomicBoolean();
+		transpositionTable.newSearch();
+		SearchResult[] helperResults = new SearchResult[threads - 1];
+		Thread[] helpers = new Thread[threads - 1];
+		for (int i = 0; i < helpers.length; i++) {
+			int helperId = i + 1;
+			SearchEngine helper = new SearchEngine(board, transpositionTable);
+			helper.setStopSignal(stopSignal);
+			helpers[i] = new Thread(() -> helperResults[helperId - 1] = helper.search(limits, helperId),
+					"lazy-smp-helper-" + helperId);
+			helpers[i].setDaemon(true);
+			helpers[i].start();
+		}
+
+		SearchResult main = new SearchEngine(board, transpositionTable).search(limits, 0);
+		stopSignal.set(true);
+		long nodes = main.getNodes();
+		for (int i = 0; i < helpers.length; i++) {
+			try {
+				helpers[i].join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			if (helperResults[i] != null) {
+				nodes += helperResults[i].getNodes();
+			}
+		}
+		return new SearchResult(main.getBestMove(), main.getScore(), main.getDepth(), nodes,
+				System.nanoTime() - start);
+	}
+
+	/**
+	 * Reports time to depth and speedup for growing number of threads on an
+	 * opening, middlegame and endgame position. Arguments: depth (default 6)
+	 * and maximum number of threads (default all cores).
+	 *
+	 * @param args command line arguments
+	 * @throws InvalidFenException never, positions are constant
+	 */
+	public static void main(String[] args) throws InvalidFenException {
+		int depth = (args.length > 0) ? Integer.parseInt(args[0]) : 6;
+		int maxThreads = (args.length > 1) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+		for (String fen : REPORT_POSITIONS) {
+			Board board = Fen.parse(fen);
+			System.out.println(fen + ", depth " + depth);
+			// warm-up, so the single-thread time does not include compilation
+			new SearchEngine(board).search(SearchLimits.depth(depth));
+			long singleThreadNanos = 0;
+			for (int threads = 1; threads <= maxThreads; threads = (threads < maxThreads) ? Math.min(threads * 2,
+					maxThreads) : threads + 1) {
+				LazySmpSearch search = new LazySmpSearch(board, threads,
+						new TranspositionTable(REPORT_TABLE_MEGABYTES));
+				SearchResult result = search.search(SearchLimits.depth(depth));
+				if (threads == 1) {
+					singleThreadNanos = result.getElapsedNanos();
+				}
+				System.out.printf("threads %2d: %6d ms, %10d nodes, %9d nodes/s, speedup %.2f%n", threads,
+						result.getElapsedNanos() / NANOS_PER_MILLI, result.getNodes(), result.getNodesPerSecond(),
+						(double) singleThreadNanos / Math.max(result.getElapsedNanos(), 1));
+			}
+		}
+	}
+}
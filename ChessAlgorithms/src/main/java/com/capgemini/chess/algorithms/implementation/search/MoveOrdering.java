@@ -0,0 +1,186 @@
+package com.capgemini.chess.algorithms.implementation.search;
+
+import java.util.Arrays;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.attacks.StaticExchange;
+
+/**
+ * Sorts moves of a position so the ones most likely to cause a cutoff are
+ * searched first: the hash move, captures and promotions by most valuable
+ * victim / least valuable attacker, two killer moves of the ply, the
+ * remaining quiet moves by butterfly history and last captures which lose
+ * material by {@link StaticExchange static exchange}. Scores are kept in a reused
+ * int buffer and moves are sorted in place, so ordering does not allocate.
+ * One instance belongs to one search thread.
+ */
+public class MoveOrdering {
+
+	private static final int HASH_MOVE_SCORE = Integer.MAX_VALUE;
+	private static final int CAPTURE_SCORE = 1 << 28;
+	private static final int KILLER_SCORE = 1 << 26;
+	private static final int HISTORY_LIMIT = KILLER_SCORE - 2;
+	private static final int VICTIM_SHIFT = 6;
+	private static final int ATTACKER_DIVISOR = 100;
+	private static final int KILLERS_PER_PLY = 2;
+	private static final int COLORS = Color.values().length;
+
+	private final int[] killers = new int[SearchEngine.MAX_PLY * KILLERS_PER_PLY];
+	private final int[] history = new int[COLORS * Bitboards.SQUARES * Bitboards.SQUARES];
+	private int[] scores = new int[64];
+
+	/**
+	 * Forgets killer moves and halves history, so moves of the previous
+	 * searches still count, but less
+	 */
+	public void newSearch() {
+		Arrays.fill(killers, PackedMove.NONE);
+		for (int i = 0; i < history.length; i++) {
+			history[i] >>= 1;
+		}
+	}
+
+	/**
+	 * Forgets killer moves and history, e.g. before a new game
+	 */
+	public void clear() {
+		Arrays.fill(killers, PackedMove.NONE);
+		Arrays.fill(history, 0);
+	}
+
+	/**
+	 * Sorts moves of the position on given board, best first
+	 *
+	 * @param board board with the position the moves were generated for
+	 * @param moves legal moves of the side to move
+	 * @param hashMove move from transposition table or
+	 *            {@link PackedMove#NONE}
+	 * @param ply distance from the search root
+	 */
+	public void order(Board board, MoveList moves, int hashMove, int ply) {
+		int size = moves.size();
+		if (scores.length < size) {
+			scores = new int[Math.max(size, scores.length * 2)];
+		}
+		int side = board.getSideToMove().ordinal();
+		for (int i = 0; i < size; i++) {
+			int move = moves.get(i);
+			scores[i] = (move == hashMove) ? HASH_MOVE_SCORE : score(board, move, side, ply);
+		}
+
+		// insertion sort: lists are short and often almost sorted
+		for (int i = 1; i < size; i++) {
+			int move = moves.get(i);
+			int score = scores[i];
+			int j = i - 1;
+			while (j >= 0 && scores[j] < score) {
+				moves.set(j + 1, moves.get(j));
+				scores[j + 1] = scores[j];
+				j--;
+			}
+			moves.set(j + 1, move);
+			scores[j + 1] = score;
+		}
+	}
+
+	/**
+	 * Remembers quiet move which caused a beta cutoff as killer of the ply
+	 * and raises its history. Captures and promotions are ordered by
+	 * material and ignored here.
+	 *
+	 * @param side color of the side which made the move
+	 * @param move packed move
+	 * @param depth remaining depth of the cut node
+	 * @param ply distance from the search root
+	 */
+	public void recordCutoff(Color side, int move, int depth, int ply) {
+		if (!isQuiet(move)) {
+			return;
+		}
+		int slot = ply * KILLERS_PER_PLY;
+		if (killers[slot] != move) {
+			killers[slot + 1] = killers[slot];
+			killers[slot] = move;
+		}
+
+		int index = historyIndex(side.ordinal(), move);
+		history[index] += depth * depth;
+		if (history[index] > HISTORY_LIMIT) {
+			for (int i = 0; i < history.length; i++) {
+				history[i] >>= 1;
+			}
+		}
+	}
+
+	/**
+	 * @param move packed move
+	 * @return true if the move neither captures nor promotes
+	 */
+	public static boolean isQuiet(int move) {
+		MoveType type = PackedMove.type(move);
+		return !PackedMove.isPromotion(move) && (type == MoveType.ATTACK || type == MoveType.CASTLING);
+	}
+
+	/**
+	 * Most valuable victim / least valuable attacker score of a capture or
+	 * promotion; victim value decides, attacker value breaks ties
+	 *
+	 * @param board board before the move
+	 * @param move capture or promotion
+	 * @return score, higher is tried first
+	 */
+	public static int mvvLva(Board board, int move) {
+		int from = PackedMove.from(move);
+		int to = PackedMove.to(move);
+		MoveType type = PackedMove.type(move);
+		int victim = 0;
+		if (type == MoveType.EN_PASSANT) {
+			victim = PieceType.PAWN.getValue();
+		} else if (type == MoveType.CAPTURE) {
+			victim = board.getPieceAt(to).getType().getValue();
+		}
+		PieceType promotion = PackedMove.promotionType(move);
+		if (promotion != null) {
+			victim += promotion.getValue() - PieceType.PAWN.getValue();
+		}
+		return (victim << VICTIM_SHIFT) - board.getPieceAt(from).getType().getValue() / ATTACKER_DIVISOR;
+	}
+
+	private int score(Board board, int move, int side, int ply) {
+		if (!isQuiet(move)) {
+			int mvvLva = mvvLva(board, move);
+			return (mayLose(board, move) && StaticExchange.evaluate(board, move) < 0) ? mvvLva - CAPTURE_SCORE
+					: CAPTURE_SCORE + mvvLva;
+		}
+		int slot = ply * KILLERS_PER_PLY;
+		if (move == killers[slot]) {
+			return KILLER_SCORE + 1;
+		} else if (move == killers[slot + 1]) {
+			return KILLER_SCORE;
+		}
+		return history[historyIndex(side, move)];
+	}
+
+	/**
+	 * Capture of a piece at least as valuable as the attacker never loses, so
+	 * static exchange is evaluated only for the others
+	 */
+	private static boolean mayLose(Board board, int move) {
+		MoveType type = PackedMove.type(move);
+		if (PackedMove.isPromotion(move) || type != MoveType.CAPTURE) {
+			return type != MoveType.EN_PASSANT;
+		}
+		return board.getPieceAt(PackedMove.to(move)).getType().getValue() < board.getPieceAt(PackedMove.from(move))
+				.getType().getValue();
+	}
+
+	private static int historyIndex(int side, int move) {
+		return (side * Bitboards.SQUARES + PackedMove.from(move)) * Bitboards.SQUARES + PackedMove.to(move);
+	}
+}
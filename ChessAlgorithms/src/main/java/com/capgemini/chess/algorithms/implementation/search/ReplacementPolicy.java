@@ -0,0 +1,42 @@
+package com.capgemini.chess.algorithms.implementation.search;
+
+/**
+ * Chooses which entry of a full {@link TranspositionTable} bucket is
+ * overwritten: the one with the lowest priority. Entries of the same
+ * position are always overwritten in place.
+ */
+public enum ReplacementPolicy {
+
+	/** Keeps the deepest entries, regardless of age */
+	DEPTH {
+		@Override
+		int priority(int depth, int age) {
+			return depth;
+		}
+	},
+
+	/** Keeps deep entries, but every search since an entry was stored counts as lost depth */
+	DEPTH_AND_AGE {
+		@Override
+		int priority(int depth, int age) {
+			return depth - AGE_WEIGHT * age;
+		}
+	},
+
+	/** Overwrites the oldest entry */
+	AGE {
+		@Override
+		int priority(int depth, int age) {
+			return -age;
+		}
+	};
+
+	private static final int AGE_WEIGHT = 4;
+
+	/**
+	 * @param depth depth of the stored entry
+	 * @param age number of searches since the entry was stored
+	 * @return priority to keep the entry, lower is replaced first
+	 */
+	abstract int priority(int depth, int age);
+}
@@ -0,0 +1,326 @@
+package com.capgemini.chess.algorithms.implementation.search;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.MoveGenerator;
+import com.capgemini.chess.algorithms.implementation.attacks.AttackDetector;
+import com.capgemini.chess.algorithms.implementation.attacks.StaticExchange;
+
+/**
+ * Negamax alpha-beta search with iterative deepening. The engine searches
+ * its own copy of the board with make/unmake and packed move lists reused
+ * per ply, so the search loop does not allocate. Each iteration starts with
+ * the best root move of the previous one; when time runs out the result of
+ * the last completed iteration is returned. Results are kept in a
+ * {@link TranspositionTable}, which cuts off transposed subtrees and gives
+ * the move to try first; the other moves are sorted by {@link MoveOrdering}.
+ * At the horizon a quiescence search resolves captures and promotions which
+ * do not lose material by {@link StaticExchange static exchange}, so the
+ * position is not evaluated in the middle of an exchange.
+ */
+public class SearchEngine {
+
+	public static final int MATE = 100_000;
+	public static final int DRAW = 0;
+
+	/** Deepest ply of the main search plus quiescence */
+	static final int MAX_PLY = 2 * SearchLimits.MAX_DEPTH;
+
+	private static final int INFINITY = MATE + 1;
+	private static final int FIFTY_MOVE_PLIES = 100;
+	private static final long TIME_CHECK_MASK = 1023;
+	private static final long NANOS_PER_MILLI = 1_000_000L;
+	private static final int DEFAULT_TABLE_MEGABYTES = 16;
+
+	private final Board board;
+	private final MoveGenerator moveGenerator;
+	private final TranspositionTable transpositionTable;
+	private final MoveList[] moveLists = new MoveList[MAX_PLY];
+	private final MoveOrdering moveOrdering = new MoveOrdering();
+
+	private AtomicBoolean stopSignal = new AtomicBoolean();
+	private long nodes;
+	private long deadline;
+	private boolean stopped;
+
+	/**
+	 * Creates engine for the position of given board. The board is copied,
+	 * so later changes to it do not affect the engine.
+	 *
+	 * @param board chess board
+	 */
+	public SearchEngine(Board board) {
+		this(board, new TranspositionTable(DEFAULT_TABLE_MEGABYTES));
+	}
+
+	/**
+	 * Creates engine for the position of given board, storing results in
+	 * given table. The table may be kept between searches of one game.
+	 *
+	 * @param board chess board
+	 * @param transpositionTable table of search results
+	 */
+	public SearchEngine(Board board, TranspositionTable transpositionTable) {
+		this.board = new Board(board);
+		this.moveGenerator = new MoveGenerator(this.board);
+		this.transpositionTable = transpositionTable;
+		for (int i = 0; i < moveLists.length; i++) {
+			moveLists[i] = new MoveList();
+		}
+	}
+
+	/**
+	 * Searches best move of the side to move
+	 *
+	 * @param limits depth and time limits
+	 * @return best move, score and statistics
+	 */
+	public SearchResult search(SearchLimits limits) {
+		transpositionTable.newSearch();
+		return search(limits, 0);
+	}
+
+	/**
+	 * Sets flag which stops the search when raised by another thread
+	 */
+	void setStopSignal(AtomicBoolean stopSignal) {
+		this.stopSignal = stopSignal;
+	}
+
+	/**
+	 * Searches as one of {@link LazySmpSearch} threads. Helpers (non-zero
+	 * id) try root moves in rotated order and odd helpers skip the first
+	 * iteration, so threads spread over different parts of the tree. The
+	 * caller starts the new search of the shared table.
+	 */
+	SearchResult search(SearchLimits limits, int helperId) {
+		long start = System.nanoTime();
+		deadline = (limits.getMaxTimeMillis() > 0) ? start + limits.getMaxTimeMillis() * NANOS_PER_MILLI
+				: Long.MAX_VALUE;
+		nodes = 0;
+		stopped = false;
+		moveOrdering.newSearch();
+
+		MoveList rootMoves = moveLists[0];
+		moveGenerator.generateLegalMoves(board.getSideToMove(), rootMoves);
+		if (rootMoves.isEmpty()) {
+			int score = AttackDetector.isKingInCheck(board, board.getSideToMove()) ? -MATE : DRAW;
+			return new SearchResult(null, score, 0, 0, System.nanoTime() - start);
+		}
+
+		moveOrdering.order(board, rootMoves, PackedMove.NONE, 0);
+		if (helperId > 0) {
+			rotate(rootMoves, helperId % rootMoves.size());
+		}
+
+		int bestScore = 0;
+		int completedDepth = 0;
+		for (int depth = 1 + (helperId & 1); depth <= limits.getMaxDepth(); depth++) {
+			int score = searchRoot(rootMoves, depth);
+			if (stopped) {
+				break;
+			}
+			bestScore = score;
+			completedDepth = depth;
+			if (Math.abs(score) >= MATE - depth) {
+				break;
+			}
+		}
+		int bestMove = rootMoves.get(0);
+		return new SearchResult(PackedMove.toMove(bestMove, board.getPieceAt(PackedMove.from(bestMove))), bestScore,
+				completedDepth, nodes, System.nanoTime() - start);
+	}
+
+	/**
+	 * Searches all root moves and moves the best one to the front of the
+	 * list, keeping order of the others
+	 */
+	private int searchRoot(MoveList moves, int depth) {
+		int alpha = -INFINITY;
+		int bestIndex = 0;
+		for (int i = 0; i < moves.size(); i++) {
+			board.makeMove(moves.get(i));
+			int score = -alphaBeta(depth - 1, -INFINITY, -alpha, 1);
+			board.unmakeMove();
+			if (stopped) {
+				return alpha;
+			}
+			if (score > alpha) {
+				alpha = score;
+				bestIndex = i;
+			}
+		}
+		int best = moves.get(bestIndex);
+		for (int i = bestIndex; i > 0; i--) {
+			moves.set(i, moves.get(i - 1));
+		}
+		moves.set(0, best);
+		return alpha;
+	}
+
+	private int alphaBeta(int depth, int alpha, int beta, int ply) {
+		if (depth == 0) {
+			return quiescence(alpha, beta, ply);
+		}
+		if (enterNode() || isDraw()) {
+			return DRAW;
+		}
+
+		long key = board.getZobristKey();
+		long entry = transpositionTable.probe(key);
+		int hashMove = PackedMove.NONE;
+		if (entry != 0) {
+			hashMove = TranspositionTable.move(entry);
+			if (TranspositionTable.depth(entry) >= depth) {
+				int score = fromTableScore(TranspositionTable.score(entry), ply);
+				int bound = TranspositionTable.bound(entry);
+				if (bound == TranspositionTable.BOUND_EXACT
+						|| (bound == TranspositionTable.BOUND_LOWER && score >= beta)
+						|| (bound == TranspositionTable.BOUND_UPPER && score <= alpha)) {
+					return score;
+				}
+			}
+		}
+
+		MoveList moves = moveLists[ply];
+		moveGenerator.generateLegalMoves(board.getSideToMove(), moves);
+		if (moves.isEmpty()) {
+			return AttackDetector.isKingInCheck(board, board.getSideToMove()) ? -MATE + ply : DRAW;
+		}
+		moveOrdering.order(board, moves, hashMove, ply);
+
+		int bound = TranspositionTable.BOUND_UPPER;
+		int bestMove = PackedMove.NONE;
+		for (int i = 0; i < moves.size(); i++) {
+			int move = moves.get(i);
+			board.makeMove(move);
+			int score = -alphaBeta(depth - 1, -beta, -alpha, ply + 1);
+			board.unmakeMove();
+			if (stopped) {
+				return DRAW;
+			}
+			if (score >= beta) {
+				moveOrdering.recordCutoff(board.getSideToMove(), move, depth, ply);
+				transpositionTable.store(key, move, toTableScore(beta, ply), depth, TranspositionTable.BOUND_LOWER);
+				return beta;
+			}
+			if (score > alpha) {
+				alpha = score;
+				bestMove = move;
+				bound = TranspositionTable.BOUND_EXACT;
+			}
+		}
+		transpositionTable.store(key, bestMove, toTableScore(alpha, ply), depth, bound);
+		return alpha;
+	}
+
+	/**
+	 * Searches only captures and promotions, which do not lose material, until
+	 * the position is quiet. The side to move may stand pat with the static
+	 * evaluation instead of capturing, unless it is in check; then all
+	 * evasions are searched and no evasion means mate.
+	 */
+	private int quiescence(int alpha, int beta, int ply) {
+		if (enterNode() || isDraw()) {
+			return DRAW;
+		}
+		Color side = board.getSideToMove();
+		MoveList moves = moveLists[ply];
+		boolean inCheck = AttackDetector.isKingInCheck(board, side);
+		if (inCheck) {
+			moveGenerator.generateLegalMoves(side, moves);
+			if (moves.isEmpty()) {
+				return -MATE + ply;
+			}
+			if (ply == MAX_PLY - 1) {
+				return Evaluator.evaluate(board);
+			}
+		} else {
+			int standPat = Evaluator.evaluate(board);
+			if (standPat >= beta) {
+				return beta;
+			}
+			if (standPat > alpha) {
+				alpha = standPat;
+			}
+			if (ply == MAX_PLY - 1) {
+				return alpha;
+			}
+			moveGenerator.generateLegalCaptures(side, moves);
+		}
+
+		moveOrdering.order(board, moves, PackedMove.NONE, ply);
+		for (int i = 0; i < moves.size(); i++) {
+			int move = moves.get(i);
+			if (!inCheck && StaticExchange.evaluate(board, move) < 0) {
+				continue;
+			}
+			board.makeMove(move);
+			int score = -quiescence(-beta, -alpha, ply + 1);
+			board.unmakeMove();
+			if (stopped) {
+				return DRAW;
+			}
+			if (score >= beta) {
+				return beta;
+			}
+			if (score > alpha) {
+				alpha = score;
+			}
+		}
+		return alpha;
+	}
+
+	/**
+	 * Counts the node and checks time limit and stop signal every
+	 * {@link #TIME_CHECK_MASK} + 1 nodes
+	 *
+	 * @return true if the search is stopped
+	 */
+	private boolean enterNode() {
+		if ((++nodes & TIME_CHECK_MASK) == 0 && (System.nanoTime() > deadline || stopSignal.get())) {
+			stopped = true;
+		}
+		return stopped;
+	}
+
+	private boolean isDraw() {
+		return board.getHalfmoveClock() >= FIFTY_MOVE_PLIES || board.getRepetitionCount() > 1;
+	}
+
+	private static void rotate(MoveList moves, int distance) {
+		for (int n = 0; n < distance; n++) {
+			int first = moves.get(0);
+			for (int i = 1; i < moves.size(); i++) {
+				moves.set(i - 1, moves.get(i));
+			}
+			moves.set(moves.size() - 1, first);
+		}
+	}
+
+	/**
+	 * Mate scores are stored as distance from the stored position, not from
+	 * the root, so they stay right when the position is reached at another ply
+	 */
+	private static int toTableScore(int score, int ply) {
+		if (score >= MATE - MAX_PLY) {
+			return score + ply;
+		} else if (score <= -MATE + MAX_PLY) {
+			return score - ply;
+		}
+		return score;
+	}
+
+	private static int fromTableScore(int score, int ply) {
+		if (score >= MATE - MAX_PLY) {
+			return score - ply;
+		} else if (score <= -MATE + MAX_PLY) {
+			return score + ply;
+		}
+		return score;
+	}
+}
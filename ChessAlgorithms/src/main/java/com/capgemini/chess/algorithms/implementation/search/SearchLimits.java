@@ -0,0 +1,59 @@
+package com.capgemini.chess.algorithms.implementation.search;
+
+import com.capgemini.chess.algorithms.data.enums.Level;
+
+/**
+ * Limits of a single search: maximum depth and time
+ */
+public class SearchLimits {
+
+	public static final int MAX_DEPTH = 64;
+
+	private static final long UNLIMITED = 0;
+	private static final long LEVEL_TIME_MILLIS = 250;
+
+	private final int maxDepth;
+	private final long maxTimeMillis;
+
+	/**
+	 * @param maxDepth deepest iteration, from 1 to {@link #MAX_DEPTH}
+	 * @param maxTimeMillis time limit, 0 for none
+	 */
+	public SearchLimits(int maxDepth, long maxTimeMillis) {
+		if (maxDepth < 1 || maxDepth > MAX_DEPTH) {
+			throw new IllegalArgumentException("Depth out of range: " + maxDepth);
+		}
+		this.maxDepth = maxDepth;
+		this.maxTimeMillis = maxTimeMillis;
+	}
+
+	public static SearchLimits depth(int maxDepth) {
+		return new SearchLimits(maxDepth, UNLIMITED);
+	}
+
+	public static SearchLimits time(long maxTimeMillis) {
+		return new SearchLimits(MAX_DEPTH, maxTimeMillis);
+	}
+
+	/**
+	 * Limits of a computer opponent of given level: one ply for the two lowest
+	 * levels up to five plies for the highest, with time growing alike
+	 *
+	 * @param level player level
+	 * @return search limits
+	 */
+	public static SearchLimits forLevel(Level level) {
+		return new SearchLimits((level.getValue() + 1) / 2, LEVEL_TIME_MILLIS * level.getValue());
+	}
+
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	/**
+	 * @return time limit in milliseconds, 0 if there is none
+	 */
+	public long getMaxTimeMillis() {
+		return maxTimeMillis;
+	}
+}
@@ -0,0 +1,68 @@
+package com.capgemini.chess.algorithms.implementation.search;
+
+import com.capgemini.chess.algorithms.data.Move;
+
+/**
+ * Outcome of a search: best move with its score and search statistics
+ */
+public class SearchResult {
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	private final Move bestMove;
+	private final int score;
+	private final int depth;
+	private final long nodes;
+	private final long elapsedNanos;
+
+	public SearchResult(Move bestMove, int score, int depth, long nodes, long elapsedNanos) {
+		this.bestMove = bestMove;
+		this.score = score;
+		this.depth = depth;
+		this.nodes = nodes;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * @return best move or null if the side to move has no legal move
+	 */
+	public Move getBestMove() {
+		return bestMove;
+	}
+
+	/**
+	 * Score for the side to move in centipawns; mate scores are
+	 * {@link SearchEngine#MATE} minus the number of plies to mate
+	 *
+	 * @return score
+	 */
+	public int getScore() {
+		return score;
+	}
+
+	/**
+	 * @return depth of the last completed iteration
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	public long getNodes() {
+		return nodes;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public long getNodesPerSecond() {
+		return nodes * NANOS_PER_SECOND / Math.max(elapsedNanos, 1);
+	}
+
+	/**
+	 * @return true if score announces mate for either side
+	 */
+	public boolean isMate() {
+		return Math.abs(score) >= SearchEngine.MATE - SearchEngine.MAX_PLY;
+	}
+}
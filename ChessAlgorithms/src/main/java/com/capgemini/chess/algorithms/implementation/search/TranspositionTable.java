@@ -0,0 +1,183 @@
+package com.capgemini.chess.algorithms.implementation.search;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size table of search results keyed by Zobrist key, stored in a flat
+ * long array. Four entries of two longs make a 64-byte bucket, the size of a
+ * cache line, so a probe touches one bucket. Every entry keeps its data word
+ * and the position key XOR-ed with it; threads write without locks and an
+ * entry torn by concurrent writes fails the XOR check and reads as a miss.
+ * <p>
+ * Data word layout: bits 0-15 move, 16-35 score, 36-43 depth, 44-45 bound,
+ * 46-53 search age. A zero data word is an empty entry.
+ */
+public class TranspositionTable {
+
+	public static final int BOUND_EXACT = 1;
+	public static final int BOUND_LOWER = 2;
+	public static final int BOUND_UPPER = 3;
+
+	private static final int ENTRY_LONGS = 2;
+	private static final int BUCKET_ENTRIES = 4;
+	private static final int BUCKET_LONGS = ENTRY_LONGS * BUCKET_ENTRIES;
+	private static final int BUCKET_BYTES = BUCKET_LONGS * Long.BYTES;
+	private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+	private static final int MOVE_BITS = 16;
+	private static final int SCORE_SHIFT = 16;
+	private static final int SCORE_BITS = 20;
+	private static final int SCORE_OFFSET = 1 << (SCORE_BITS - 1);
+	private static final int DEPTH_SHIFT = SCORE_SHIFT + SCORE_BITS;
+	private static final int DEPTH_BITS = 8;
+	private static final int BOUND_SHIFT = DEPTH_SHIFT + DEPTH_BITS;
+	private static final int BOUND_BITS = 2;
+	private static final int AGE_SHIFT = BOUND_SHIFT + BOUND_BITS;
+	private static final int AGE_BITS = 8;
+	private static final int AGE_MASK = (1 << AGE_BITS) - 1;
+
+	private final long[] entries;
+	private final int bucketMask;
+	private final ReplacementPolicy policy;
+	private volatile int age;
+
+	/**
+	 * Creates table using {@link ReplacementPolicy#DEPTH_AND_AGE}
+	 *
+	 * @param megabytes memory size, rounded down to a power of two
+	 */
+	public TranspositionTable(int megabytes) {
+		this(megabytes, ReplacementPolicy.DEPTH_AND_AGE);
+	}
+
+	/**
+	 * @param megabytes memory size, rounded down to a power of two
+	 * @param policy choice of entries to overwrite in full buckets
+	 */
+	public TranspositionTable(int megabytes, ReplacementPolicy policy) {
+		if (megabytes < 1 || megabytes > 8192) {
+			throw new IllegalArgumentException("Table size out of range: " + megabytes + " MB");
+		}
+		long buckets = Long.highestOneBit(megabytes * BYTES_PER_MEGABYTE / BUCKET_BYTES);
+		buckets = Math.min(buckets, Integer.highestOneBit(Integer.MAX_VALUE / BUCKET_LONGS));
+		this.entries = new long[(int) buckets * BUCKET_LONGS];
+		this.bucketMask = (int) buckets - 1;
+		this.policy = policy;
+	}
+
+	/**
+	 * Marks start of a new search, so entries of the previous ones age
+	 */
+	public void newSearch() {
+		age = (age + 1) & AGE_MASK;
+	}
+
+	/**
+	 * Removes all entries
+	 */
+	public void clear() {
+		Arrays.fill(entries, 0);
+	}
+
+	/**
+	 * Looks up entry of given position
+	 *
+	 * @param key position Zobrist key
+	 * @return data word, to be read with the static accessors, or 0 if the
+	 *         position is not stored
+	 */
+	public long probe(long key) {
+		int bucket = bucketOf(key);
+		for (int i = bucket; i < bucket + BUCKET_LONGS; i += ENTRY_LONGS) {
+			long data = entries[i + 1];
+			if (data != 0 && (entries[i] ^ data) == key) {
+				return data;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Stores search result of given position
+	 *
+	 * @param key position Zobrist key
+	 * @param move best move in packed encoding or 0
+	 * @param score score, mate scores relative to this position
+	 * @param depth remaining depth of the search
+	 * @param bound {@link #BOUND_EXACT}, {@link #BOUND_LOWER} or
+	 *            {@link #BOUND_UPPER}
+	 */
+	public void store(long key, int move, int score, int depth, int bound) {
+		int currentAge = age;
+		int bucket = bucketOf(key);
+		int target = bucket;
+		int lowestPriority = Integer.MAX_VALUE;
+		for (int i = bucket; i < bucket + BUCKET_LONGS; i += ENTRY_LONGS) {
+			long data = entries[i + 1];
+			if (data == 0 || (entries[i] ^ data) == key) {
+				target = i;
+				break;
+			}
+			int priority = policy.priority(depth(data), (currentAge - age(data)) & AGE_MASK);
+			if (priority < lowestPriority) {
+				lowestPriority = priority;
+				target = i;
+			}
+		}
+		long data = (move & ((1L << MOVE_BITS) - 1))
+				| ((long) (score + SCORE_OFFSET) << SCORE_SHIFT)
+				| ((long) Math.min(depth, (1 << DEPTH_BITS) - 1) << DEPTH_SHIFT)
+				| ((long) bound << BOUND_SHIFT)
+				| ((long) currentAge << AGE_SHIFT);
+		entries[target] = key ^ data;
+		entries[target + 1] = data;
+	}
+
+	/**
+	 * @return number of entries the table can hold
+	 */
+	public int getCapacity() {
+		return entries.length / ENTRY_LONGS;
+	}
+
+	/**
+	 * Share of the first thousand entries filled in the current search
+	 *
+	 * @return permille of used entries
+	 */
+	public int getHashfull() {
+		int limit = Math.min(1000, getCapacity());
+		int used = 0;
+		for (int i = 0; i < limit; i++) {
+			long data = entries[i * ENTRY_LONGS + 1];
+			if (data != 0 && age(data) == age) {
+				used++;
+			}
+		}
+		return used * 1000 / limit;
+	}
+
+	public static int move(long data) {
+		return (int) (data & ((1L << MOVE_BITS) - 1));
+	}
+
+	public static int score(long data) {
+		return (int) ((data >>> SCORE_SHIFT) & ((1L << SCORE_BITS) - 1)) - SCORE_OFFSET;
+	}
+
+	public static int depth(long data) {
+		return (int) ((data >>> DEPTH_SHIFT) & ((1L << DEPTH_BITS) - 1));
+	}
+
+	public static int bound(long data) {
+		return (int) ((data >>> BOUND_SHIFT) & ((1L << BOUND_BITS) - 1));
+	}
+
+	private static int age(long data) {
+		return (int) ((data >>> AGE_SHIFT) & AGE_MASK);
+	}
+
+	private int bucketOf(long key) {
+		return ((int) (key ^ (key >>> 32)) & bucketMask) * BUCKET_LONGS;
+	}
+}
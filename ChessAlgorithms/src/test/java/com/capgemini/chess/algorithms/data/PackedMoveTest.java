@@ -0,0 +1,64 @@
+package com.capgemini.chess.algorithms.data;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Test class for testing {@link PackedMove}
+ */
+public class PackedMoveTest {
+
+	@Test
+	public void testPackAndUnpackEveryMoveType() {
+		for (MoveType type : MoveType.values()) {
+			// when
+			int move = PackedMove.of(Bitboards.square(4, 0), Bitboards.square(6, 0), type);
+
+			// then
+			assertTrue(move < (1 << 16));
+			assertEquals(Bitboards.square(4, 0), PackedMove.from(move));
+			assertEquals(Bitboards.square(6, 0), PackedMove.to(move));
+			assertEquals(type, PackedMove.type(move));
+			assertFalse(PackedMove.isPromotion(move));
+			assertNull(PackedMove.promotionType(move));
+		}
+	}
+
+	@Test
+	public void testPackPromotionCapture() {
+		// when
+		int move = PackedMove.promotion(63, 0, true, PieceType.KNIGHT);
+
+		// then
+		assertEquals(63, PackedMove.from(move));
+		assertEquals(0, PackedMove.to(move));
+		assertEquals(MoveType.CAPTURE, PackedMove.type(move));
+		assertEquals(PieceType.KNIGHT, PackedMove.promotionType(move));
+	}
+
+	@Test
+	public void testConvertMove() {
+		// given
+		Move move = new Move();
+		move.setFrom(new Coordinate(6, 6));
+		move.setTo(new Coordinate(6, 7));
+		move.setType(MoveType.ATTACK);
+		move.setMovedPiece(Piece.WHITE_PAWN);
+
+		// when
+		int packed = PackedMove.fromMove(move);
+		Move unpacked = PackedMove.toMove(packed, Piece.WHITE_PAWN);
+
+		// then
+		assertEquals(PieceType.QUEEN, PackedMove.promotionType(packed));
+		assertEquals(move.getFrom(), unpacked.getFrom());
+		assertEquals(move.getTo(), unpacked.getTo());
+		assertEquals(MoveType.ATTACK, unpacked.getType());
+		assertEquals(Piece.WHITE_PAWN, unpacked.getMovedPiece());
+	}
+}
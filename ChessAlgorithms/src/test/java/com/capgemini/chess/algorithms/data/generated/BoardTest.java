@@ -0,0 +1,318 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.CastlingRights;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Test class for testing {@link Board}
+ */
+public class BoardTest {
+
+	@Test
+	public void testMakeAndUnmakeCapture() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(0, 0));
+		board.setPieceAt(Piece.BLACK_KNIGHT, new Coordinate(0, 5));
+		Board expected = copyOf(board);
+
+		// when
+		board.makeMove(Bitboards.square(0, 0), Bitboards.square(0, 5), MoveType.CAPTURE);
+
+		// then
+		assertEquals(Piece.WHITE_ROOK, board.getPieceAt(new Coordinate(0, 5)));
+		assertNull(board.getPieceAt(new Coordinate(0, 0)));
+		assertEquals(1, board.getUndoDepth());
+		board.unmakeMove();
+		assertTrue(board.hasSamePlacement(expected));
+		assertEquals(0, board.getUndoDepth());
+	}
+
+	@Test
+	public void testMakeAndUnmakeCastling() {
+		// given
+		Board board = new BoardManager().getBoard();
+		board.setPieceAt(null, new Coordinate(5, 0));
+		board.setPieceAt(null, new Coordinate(6, 0));
+		Board expected = copyOf(board);
+
+		// when
+		board.makeMove(Bitboards.square(4, 0), Bitboards.square(6, 0), MoveType.CASTLING);
+
+		// then
+		assertEquals(Piece.WHITE_KING, board.getPieceAt(new Coordinate(6, 0)));
+		assertEquals(Piece.WHITE_ROOK, board.getPieceAt(new Coordinate(5, 0)));
+		assertNull(board.getPieceAt(new Coordinate(7, 0)));
+		board.unmakeMove();
+		assertTrue(board.hasSamePlacement(expected));
+	}
+
+	@Test
+	public void testMakeAndUnmakeEnPassantAndPromotion() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_PAWN, new Coordinate(1, 4));
+		board.setPieceAt(Piece.BLACK_PAWN, new Coordinate(2, 4));
+		board.setPieceAt(Piece.WHITE_PAWN, new Coordinate(6, 6));
+		Board expected = copyOf(board);
+
+		// when
+		board.makeMove(Bitboards.square(1, 4), Bitboards.square(2, 5), MoveType.EN_PASSANT);
+		board.makeMove(Bitboards.square(6, 6), Bitboards.square(6, 7), MoveType.ATTACK);
+
+		// then
+		assertNull(board.getPieceAt(new Coordinate(2, 4)));
+		assertEquals(Piece.WHITE_QUEEN, board.getPieceAt(new Coordinate(6, 7)));
+		board.unmakeMove();
+		board.unmakeMove();
+		assertTrue(board.hasSamePlacement(expected));
+	}
+
+	@Test
+	public void testZobristKeyRestoredByUnmake() {
+		// given
+		Board board = new BoardManager().getBoard();
+		long initialKey = board.getZobristKey();
+
+		// when
+		board.makeMove(Bitboards.square(6, 0), Bitboards.square(5, 2), MoveType.ATTACK);
+		long afterMoveKey = board.getZobristKey();
+		board.makeMove(Bitboards.square(7, 6), Bitboards.square(7, 5), MoveType.ATTACK);
+		board.unmakeMove();
+		board.unmakeMove();
+
+		// then
+		assertNotEquals(initialKey, afterMoveKey);
+		assertEquals(initialKey, board.getZobristKey());
+		assertEquals(CastlingRights.ALL, board.getCastlingRights());
+	}
+
+	@Test
+	public void testZobristKeyEqualForTransposition() {
+		// given
+		Board board = new BoardManager().getBoard();
+		Board transposed = new BoardManager().getBoard();
+
+		// when
+		board.makeMove(Bitboards.square(6, 0), Bitboards.square(5, 2), MoveType.ATTACK);
+		board.makeMove(Bitboards.square(6, 7), Bitboards.square(5, 5), MoveType.ATTACK);
+		board.makeMove(Bitboards.square(1, 0), Bitboards.square(2, 2), MoveType.ATTACK);
+		transposed.makeMove(Bitboards.square(1, 0), Bitboards.square(2, 2), MoveType.ATTACK);
+		transposed.makeMove(Bitboards.square(6, 7), Bitboards.square(5, 5), MoveType.ATTACK);
+		transposed.makeMove(Bitboards.square(6, 0), Bitboards.square(5, 2), MoveType.ATTACK);
+
+		// then
+		assertEquals(board.getZobristKey(), transposed.getZobristKey());
+		assertEquals(Color.BLACK, board.getSideToMove());
+	}
+
+	@Test
+	public void testZobristKeyCoversCastlingRightsAndEnPassant() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(7, 0));
+		board.setPieceAt(Piece.WHITE_PAWN, new Coordinate(3, 1));
+		board.setPieceAt(Piece.BLACK_PAWN, new Coordinate(4, 3));
+		long initialKey = board.getZobristKey();
+
+		// when
+		board.makeMove(Bitboards.square(3, 1), Bitboards.square(3, 3), MoveType.ATTACK);
+		int enPassantSquare = board.getEnPassantSquare();
+		long enPassantKey = board.getZobristKey();
+		board.unmakeMove();
+		board.makeMove(Bitboards.square(7, 0), Bitboards.square(7, 1), MoveType.ATTACK);
+		board.makeMove(Bitboards.square(7, 1), Bitboards.square(7, 0), MoveType.ATTACK);
+
+		// then
+		assertEquals(Bitboards.square(3, 2), enPassantSquare);
+		assertNotEquals(initialKey, enPassantKey);
+		assertEquals(CastlingRights.ALL & ~CastlingRights.WHITE_KINGSIDE, board.getCastlingRights());
+		assertNotEquals(initialKey, board.getZobristKey());
+	}
+
+	@Test
+	public void testRepetitionCountWithKnightShuffle() {
+		// given
+		Board board = new BoardManager().getBoard();
+
+		// when
+		for (int i = 0; i < 2; i++) {
+			board.addMove(createMove(new Coordinate(6, 0), new Coordinate(5, 2)));
+			board.addMove(createMove(new Coordinate(6, 7), new Coordinate(5, 5)));
+			board.addMove(createMove(new Coordinate(5, 2), new Coordinate(6, 0)));
+			board.addMove(createMove(new Coordinate(5, 5), new Coordinate(6, 7)));
+		}
+		int afterShuffle = board.getRepetitionCount();
+		board.makeMove(Bitboards.square(6, 0), Bitboards.square(7, 2), MoveType.ATTACK);
+		int afterKnightMove = board.getRepetitionCount();
+		board.unmakeMove();
+
+		// then
+		assertEquals(3, afterShuffle);
+		assertEquals(1, afterKnightMove);
+		assertEquals(3, board.getRepetitionCount());
+	}
+
+	@Test
+	public void testRepetitionCountStartsAfterPawnMove() {
+		// given
+		Board board = new BoardManager().getBoard();
+
+		// when
+		board.addMove(createMove(new Coordinate(4, 1), new Coordinate(4, 2)));
+		board.addMove(createMove(new Coordinate(6, 7), new Coordinate(5, 5)));
+		board.addMove(createMove(new Coordinate(4, 2), new Coordinate(4, 1)));
+		board.addMove(createMove(new Coordinate(5, 5), new Coordinate(6, 7)));
+
+		// then
+		assertEquals(1, board.getRepetitionCount());
+		assertEquals(2, board.getRepetitionCountAcrossPawnMoves());
+		board.makeMove(Bitboards.square(6, 0), Bitboards.square(5, 2), MoveType.ATTACK);
+		board.unmakeMove();
+		assertEquals(1, board.getRepetitionCount());
+		assertEquals(2, board.getRepetitionCountAcrossPawnMoves());
+	}
+
+	@Test
+	public void testRepetitionCountStartsAfterCapture() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(0, 1));
+		board.setPieceAt(Piece.BLACK_KING, new Coordinate(4, 7));
+		board.setPieceAt(Piece.BLACK_PAWN, new Coordinate(0, 5));
+		board.setCastlingRights(CastlingRights.NONE);
+
+		// when
+		board.makeMove(Bitboards.square(0, 1), Bitboards.square(0, 5), MoveType.CAPTURE);
+		board.makeMove(Bitboards.square(4, 7), Bitboards.square(3, 7), MoveType.ATTACK);
+		board.makeMove(Bitboards.square(0, 5), Bitboards.square(0, 4), MoveType.ATTACK);
+		board.makeMove(Bitboards.square(3, 7), Bitboards.square(4, 7), MoveType.ATTACK);
+		board.makeMove(Bitboards.square(0, 4), Bitboards.square(0, 5), MoveType.ATTACK);
+
+		// then
+		assertEquals(2, board.getRepetitionCount());
+		board.unmakeMove();
+		board.unmakeMove();
+		board.unmakeMove();
+		board.unmakeMove();
+		assertEquals(1, board.getRepetitionCount());
+	}
+
+	@Test
+	public void testHalfmoveClockResetByPawnMoveAndCapture() {
+		// given
+		Board board = new BoardManager().getBoard();
+
+		// when
+		board.addMove(createMove(new Coordinate(6, 0), new Coordinate(5, 2)));
+		board.addMove(createMove(new Coordinate(6, 7), new Coordinate(5, 5)));
+		int afterKnights = board.getHalfmoveClock();
+		board.addMove(createMove(new Coordinate(4, 1), new Coordinate(4, 3)));
+		int afterPawn = board.getHalfmoveClock();
+		board.addMove(createMove(new Coordinate(5, 5), new Coordinate(4, 3)));
+		board.makeMove(Bitboards.square(5, 2), Bitboards.square(6, 0), MoveType.ATTACK);
+		int afterMadeMove = board.getHalfmoveClock();
+		board.unmakeMove();
+
+		// then
+		assertEquals(2, afterKnights);
+		assertEquals(0, afterPawn);
+		assertEquals(1, afterMadeMove);
+		assertEquals(0, board.getHalfmoveClock());
+		assertEquals(3, board.getLastIrreversibleMoveIndex());
+	}
+
+	@Test
+	public void testCastlingDoesNotResetHalfmoveClock() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(7, 0));
+		board.setPieceAt(Piece.BLACK_KING, new Coordinate(4, 7));
+		board.setHalfmoveClock(7);
+		Move castling = createMove(new Coordinate(4, 0), new Coordinate(6, 0));
+		castling.setType(MoveType.CASTLING);
+		castling.setMovedPiece(Piece.WHITE_KING);
+
+		// when
+		board.makeMove(Bitboards.square(4, 0), Bitboards.square(6, 0), MoveType.CASTLING);
+		int afterMadeCastling = board.getHalfmoveClock();
+		board.unmakeMove();
+		board.addMove(castling);
+
+		// then
+		assertEquals(8, afterMadeCastling);
+		assertEquals(8, board.getHalfmoveClock());
+		assertEquals(0, board.getLastIrreversibleMoveIndex());
+	}
+
+	@Test
+	public void testHalfmoveClockCountsMovesAddedToHistory() {
+		// given
+		Board board = new Board();
+		Move pawnMove = createMove(new Coordinate(0, 1), new Coordinate(0, 2));
+		pawnMove.setMovedPiece(Piece.WHITE_PAWN);
+		board.getMoveHistory().add(createMove(new Coordinate(0, 0), new Coordinate(0, 1)));
+		board.getMoveHistory().add(pawnMove);
+		int afterPawn = board.getHalfmoveClock();
+
+		// when
+		board.getMoveHistory().add(createMove(new Coordinate(0, 0), new Coordinate(0, 1)));
+		board.getMoveHistory().add(new Move());
+
+		// then
+		assertEquals(0, afterPawn);
+		assertEquals(2, board.getHalfmoveClock());
+		assertEquals(1, board.getLastIrreversibleMoveIndex());
+	}
+
+	@Test
+	public void testCopyIsIndependentAndCanUnmake() {
+		// given
+		Board board = new BoardManager().getBoard();
+		board.makeMove(Bitboards.square(4, 1), Bitboards.square(4, 3), MoveType.ATTACK);
+		long key = board.getZobristKey();
+
+		// when
+		Board copy = new Board(board);
+		copy.makeMove(Bitboards.square(4, 6), Bitboards.square(4, 4), MoveType.ATTACK);
+
+		// then
+		assertEquals(key, board.getZobristKey());
+		assertEquals(Color.BLACK, board.getSideToMove());
+		assertEquals(Color.WHITE, copy.getSideToMove());
+		copy.unmakeMove();
+		assertEquals(key, copy.getZobristKey());
+		copy.unmakeMove();
+		assertEquals(Piece.WHITE_PAWN, copy.getPieceAt(new Coordinate(4, 1)));
+		assertEquals(Piece.WHITE_PAWN, board.getPieceAt(new Coordinate(4, 3)));
+	}
+
+	private Move createMove(Coordinate from, Coordinate to) {
+		Move move = new Move();
+		move.setFrom(from);
+		move.setTo(to);
+		move.setType(MoveType.ATTACK);
+		return move;
+	}
+
+	private Board copyOf(Board board) {
+		Board copy = new Board();
+		for (int square = 0; square < Bitboards.SQUARES; square++) {
+			copy.setPieceAt(board.getPieceAt(square), square);
+		}
+		return copy;
+	}
+}
@@ -838,6 +838,57 @@ public class BoardManagerTest {
 		assertFalse(areFiftyMoves);
 	}
 	
+	@Test
+	public void testReplayPositionMatchesReplayWithHistory() throws InvalidMoveException {
+		// given
+		BoardManager played = new BoardManager();
+		played.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		played.performMove(new Coordinate(3, 6), new Coordinate(3, 4));
+		played.performMove(new Coordinate(4, 3), new Coordinate(3, 4));
+		played.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+		played.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+		List<Move> moves = played.getBoard().getMoveHistory();
+
+		// when
+		BoardManager replayed = BoardManager.replayPosition(moves);
+
+		// then
+		Board board = replayed.getBoard();
+		assertTrue(board.getMoveHistory().isEmpty());
+		assertTrue(board.hasSamePlacement(played.getBoard()));
+		assertEquals(played.getBoard().getZobristKey(), board.getZobristKey());
+		assertEquals(Fen.toFen(played.getBoard()), Fen.toFen(board));
+		assertEquals(BoardState.REGULAR, replayed.updateBoardState());
+	}
+
+	@Test
+	public void testReplayPositionKeepsRepetitionAndFiftyMoveState() {
+		// given
+		List<Move> moves = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			moves.add(createMove(new Coordinate(6, 0), new Coordinate(5, 2)));
+			moves.add(createMove(new Coordinate(6, 7), new Coordinate(5, 5)));
+			moves.add(createMove(new Coordinate(5, 2), new Coordinate(6, 0)));
+			moves.add(createMove(new Coordinate(5, 5), new Coordinate(6, 7)));
+		}
+
+		// when
+		BoardManager boardManager = BoardManager.replayPosition(moves);
+
+		// then
+		assertTrue(boardManager.checkThreefoldRepetitionRule());
+		assertFalse(boardManager.checkFiftyMoveRule());
+		assertEquals(8, boardManager.getBoard().getHalfmoveClock());
+	}
+
+	private Move createMove(Coordinate from, Coordinate to) {
+		Move move = new Move();
+		move.setFrom(from);
+		move.setTo(to);
+		move.setType(MoveType.ATTACK);
+		return move;
+	}
+
 	private Move createDummyMove(Board board) {
 		
 		Move move = new Move();
@@ -0,0 +1,140 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.CastlingRights;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
+import com.capgemini.chess.algorithms.implementation.perft.Perft;
+import com.capgemini.chess.algorithms.implementation.perft.PerftPosition;
+
+/**
+ * Test class for testing {@link Fen}
+ */
+public class FenTest {
+
+	@Test
+	public void testParseInitialPosition() throws InvalidFenException {
+		// given
+		Board initial = new BoardManager().getBoard();
+
+		// when
+		Board board = Fen.parse(Fen.INITIAL_POSITION);
+
+		// then
+		assertTrue(board.hasSamePlacement(initial));
+		assertEquals(initial.getZobristKey(), board.getZobristKey());
+		assertEquals(Color.WHITE, board.getSideToMove());
+		assertEquals(Fen.INITIAL_POSITION, Fen.toFen(board));
+	}
+
+	@Test
+	public void testParseSideToMoveCastlingEnPassantAndCounters() throws InvalidFenException {
+		// given
+		String fen = "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w Kq f6 0 3";
+
+		// when
+		Board board = Fen.parse(fen);
+
+		// then
+		assertEquals(Color.WHITE, board.getSideToMove());
+		assertEquals(CastlingRights.WHITE_KINGSIDE | CastlingRights.BLACK_QUEENSIDE, board.getCastlingRights());
+		assertEquals(Bitboards.square(5, 5), board.getEnPassantSquare());
+		assertEquals(0, board.getHalfmoveClock());
+		assertEquals(4, board.getPly());
+		assertEquals(Piece.BLACK_PAWN, board.getPieceAt(new Coordinate(3, 4)));
+		assertEquals(fen, Fen.toFen(board));
+	}
+
+	@Test
+	public void testParseDropsEnPassantSquareWithoutCapturingPawn() throws InvalidFenException {
+		// given
+		String fen = "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1";
+
+		// when
+		Board board = Fen.parse(fen);
+
+		// then
+		assertEquals(Color.BLACK, board.getSideToMove());
+		assertEquals(Bitboards.NO_SQUARE, board.getEnPassantSquare());
+		assertEquals("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1", Fen.toFen(board));
+	}
+
+	@Test
+	public void testCastlingKeepsHalfmoveClockRunning() throws Exception {
+		// given
+		String fen = "r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 7 20";
+		BoardManager boardManager = new BoardManager(Fen.parse(fen));
+		Board made = Fen.parse(fen);
+
+		// when
+		boardManager.performMove(new Coordinate(4, 0), new Coordinate(6, 0));
+		made.makeMove(Bitboards.square(4, 0), Bitboards.square(6, 0), MoveType.CASTLING);
+
+		// then
+		assertEquals("r3k2r/8/8/8/8/8/8/R4RK1 b kq - 8 20", Fen.toFen(boardManager.getBoard()));
+		assertEquals("r3k2r/8/8/8/8/8/8/R4RK1 b kq - 8 20", Fen.toFen(made));
+	}
+
+	@Test
+	public void testToFenAfterPerformedMoves() throws Exception {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		boardManager.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+		boardManager.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+		boardManager.performMove(new Coordinate(5, 2), new Coordinate(6, 0));
+
+		// then
+		assertEquals("rnbqkb1r/pppppppp/5n2/8/8/8/PPPPPPPP/RNBQKBNR b KQkq - 3 2", Fen.toFen(boardManager.getBoard()));
+	}
+
+	@Test
+	public void testBoardManagerPlaysFromParsedPosition() throws Exception {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.parse("7k/5Q2/6K1/8/8/8/8/8 b - - 12 40"));
+
+		// when
+		BoardState state = boardManager.updateBoardState();
+
+		// then
+		assertEquals(BoardState.STALE_MATE, state);
+	}
+
+	@Test
+	public void testPerftFromParsedPosition() throws InvalidFenException {
+		// given
+		Board board = Fen.parse("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1");
+
+		// when
+		long nodes = new Perft(board).perft(3);
+
+		// then
+		assertEquals(PerftPosition.ENDGAME.getExpectedNodes(3), nodes);
+		assertEquals(PerftPosition.ENDGAME.createBoard().getZobristKey(), board.getZobristKey());
+	}
+
+	@Test
+	public void testParseRejectsMalformedFen() {
+		String[] malformed = { "", "8/8/8/8/8/8/8 w - - 0 1", "8/8/8/8/8/8/8/9 w - - 0 1",
+				"8/8/8/8/8/8/8/7x w - - 0 1", "8/8/8/8/8/8/8/8 x - - 0 1", "8/8/8/8/8/8/8/8 w KX - 0 1",
+				"8/8/8/8/8/8/8/8 w - e4 0 1", "8/8/8/8/8/8/8/8 w - - -1 1", "8/8/8/8/8/8/8/8 w - - 0 0" };
+		for (String fen : malformed) {
+			try {
+				Fen.parse(fen);
+				fail("Expected InvalidFenException for: " + fen);
+			} catch (InvalidFenException e) {
+				// expected
+			}
+		}
+	}
+}
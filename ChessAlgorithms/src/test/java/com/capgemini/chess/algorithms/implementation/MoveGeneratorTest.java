@@ -0,0 +1,180 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.implementation.search.MoveOrdering;
+
+/**
+ * Test class for testing {@link MoveGenerator}
+ */
+public class MoveGeneratorTest {
+
+	@Test
+	public void testGenerateLegalMovesInitialPosition() {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		List<Move> moves = new MoveGenerator(boardManager.getBoard()).generateLegalMoves(Color.WHITE);
+
+		// then
+		assertEquals(20, moves.size());
+	}
+
+	@Test
+	public void testGenerateLegalMovesIntoReusedBuffer() {
+		// given
+		BoardManager boardManager = new BoardManager();
+		MoveGenerator moveGenerator = new MoveGenerator(boardManager.getBoard());
+		MoveList moves = new MoveList(4);
+
+		// when
+		moveGenerator.generateLegalMoves(Color.WHITE, moves);
+		moveGenerator.generateLegalMoves(Color.BLACK, moves);
+
+		// then
+		assertEquals(20, moves.size());
+		assertTrue(moves.contains(PackedMove.of(Bitboards.square(4, 6), Bitboards.square(4, 4), MoveType.ATTACK)));
+	}
+
+	@Test
+	public void testGenerateLegalMovesPinnedPiece() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(4, 3));
+		board.setPieceAt(Piece.BLACK_ROOK, new Coordinate(4, 7));
+		board.setPieceAt(Piece.BLACK_KING, new Coordinate(1, 7));
+		board.setPieceAt(Piece.BLACK_PAWN, new Coordinate(1, 6));
+
+		// when
+		List<Move> moves = new MoveGenerator(board).generateLegalMoves(Color.WHITE);
+
+		// then
+		for (Move move : moves) {
+			if (move.getMovedPiece() == Piece.WHITE_ROOK) {
+				assertEquals(4, move.getTo().getX());
+			}
+		}
+		assertEquals(5 + 6, moves.size());
+	}
+
+	@Test
+	public void testGenerateLegalMovesDoubleCheck() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(0, 3));
+		board.setPieceAt(Piece.BLACK_ROOK, new Coordinate(4, 7));
+		board.setPieceAt(Piece.BLACK_BISHOP, new Coordinate(1, 3));
+		board.setPieceAt(Piece.BLACK_KING, new Coordinate(7, 7));
+
+		// when
+		List<Move> moves = new MoveGenerator(board).generateLegalMoves(Color.WHITE);
+
+		// then
+		for (Move move : moves) {
+			assertEquals(Piece.WHITE_KING, move.getMovedPiece());
+		}
+		assertEquals(3, moves.size());
+	}
+
+	@Test
+	public void testGenerateLegalMovesSingleCheckBlock() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(0, 3));
+		board.setPieceAt(Piece.BLACK_ROOK, new Coordinate(4, 7));
+		board.setPieceAt(Piece.BLACK_KING, new Coordinate(7, 7));
+
+		// when
+		List<Move> moves = new MoveGenerator(board).generateLegalMoves(Color.WHITE);
+
+		// then
+		for (Move move : moves) {
+			if (move.getMovedPiece() == Piece.WHITE_ROOK) {
+				assertEquals(new Coordinate(4, 3), move.getTo());
+			}
+		}
+		assertEquals(4 + 1, moves.size());
+	}
+
+	@Test
+	public void testGenerateLegalMovesEnPassant() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		BoardManager boardManager = new BoardManager(board);
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(7, 0));
+		board.setPieceAt(Piece.BLACK_KING, new Coordinate(7, 7));
+		board.setPieceAt(Piece.WHITE_PAWN, new Coordinate(3, 1));
+		board.setPieceAt(Piece.BLACK_PAWN, new Coordinate(4, 3));
+		boardManager.performMove(new Coordinate(3, 1), new Coordinate(3, 3));
+
+		// when
+		List<Move> moves = new MoveGenerator(board).generateLegalMoves(Color.BLACK);
+
+		// then
+		long enPassantMoves = moves.stream().filter(move -> move.getType() == MoveType.EN_PASSANT).count();
+		assertEquals(1, enPassantMoves);
+	}
+
+	@Test
+	public void testGenerateLegalCapturesMatchesNonQuietLegalMoves() throws InvalidFenException {
+		// given
+		Board board = Fen.parse("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1");
+		MoveGenerator moveGenerator = new MoveGenerator(board);
+		MoveList legalMoves = new MoveList();
+		MoveList captures = new MoveList();
+
+		for (Color color : Color.values()) {
+			// when
+			moveGenerator.generateLegalMoves(color, legalMoves);
+			moveGenerator.generateLegalCaptures(color, captures);
+
+			// then
+			int nonQuiet = 0;
+			for (int i = 0; i < legalMoves.size(); i++) {
+				int move = legalMoves.get(i);
+				if (!MoveOrdering.isQuiet(move)) {
+					nonQuiet++;
+					assertTrue(captures.contains(move));
+				}
+			}
+			assertEquals(nonQuiet, captures.size());
+		}
+		assertTrue(captures.contains(PackedMove.promotion(Bitboards.square(1, 1), Bitboards.square(1, 0), false,
+				PieceType.QUEEN)));
+	}
+
+	@Test
+	public void testHasAnyLegalMoveCheckMate() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(0, 1));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(1, 0));
+		board.setPieceAt(Piece.BLACK_KING, new Coordinate(4, 0));
+
+		// when
+		boolean anyMove = new MoveGenerator(board).hasAnyLegalMove(Color.BLACK);
+
+		// then
+		assertFalse(anyMove);
+	}
+}
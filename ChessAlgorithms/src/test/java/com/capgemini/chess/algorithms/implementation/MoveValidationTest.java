@@ -0,0 +1,129 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.CastlingRights;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.ValidationResult;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Test class for testing {@link MoveValidation}
+ */
+public class MoveValidationTest {
+
+	@Test
+	public void testCheckValidMoves() {
+		// given
+		BoardManager boardManager = new BoardManager();
+		Board board = boardManager.getBoard();
+
+		// when
+		ValidationResult pawnPush = MoveValidation.check(board, new Coordinate(4, 1), new Coordinate(4, 3));
+		ValidationResult knightJump = MoveValidation.check(board, new Coordinate(6, 0), new Coordinate(5, 2));
+
+		// then
+		assertEquals(ValidationResult.ATTACK, pawnPush);
+		assertEquals(ValidationResult.ATTACK, knightJump);
+		assertTrue(pawnPush.isValid());
+	}
+
+	@Test
+	public void testCheckInvalidMoves() {
+		// given
+		BoardManager boardManager = new BoardManager();
+		Board board = boardManager.getBoard();
+
+		// when
+		ValidationResult wrongPlayer = MoveValidation.check(board, new Coordinate(4, 6), new Coordinate(4, 4));
+		ValidationResult blocked = MoveValidation.check(board, new Coordinate(0, 0), new Coordinate(0, 3));
+		ValidationResult outOfBoard = MoveValidation.check(board, new Coordinate(0, 1), new Coordinate(0, 8));
+
+		// then
+		assertEquals(ValidationResult.INVALID, wrongPlayer);
+		assertEquals(ValidationResult.INVALID, blocked);
+		assertEquals(ValidationResult.INVALID, outOfBoard);
+		assertEquals(ValidationResult.ATTACK,
+				MoveValidation.checkIgnoringTurn(board, new Coordinate(4, 6), new Coordinate(4, 4)));
+	}
+
+	@Test
+	public void testCheckKingLeftInCheck() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		board.setPieceAt(Piece.WHITE_BISHOP, new Coordinate(4, 1));
+		board.setPieceAt(Piece.BLACK_ROOK, new Coordinate(4, 7));
+		board.setPieceAt(Piece.BLACK_KNIGHT, new Coordinate(1, 4));
+
+		// when
+		ValidationResult result = MoveValidation.check(board, new Coordinate(4, 1), new Coordinate(1, 4));
+
+		// then
+		assertEquals(ValidationResult.KING_IN_CHECK, result);
+		assertFalse(result.isValid());
+	}
+
+	@Test
+	public void testCheckCastlingAfterRookMovedOrCaptured() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(0, 0));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(7, 0));
+		board.setPieceAt(Piece.BLACK_KING, new Coordinate(4, 7));
+		board.setPieceAt(Piece.BLACK_KNIGHT, new Coordinate(6, 2));
+		board.addMove(createMove(new Coordinate(0, 0), new Coordinate(0, 1), MoveType.ATTACK));
+		board.addMove(createMove(new Coordinate(6, 2), new Coordinate(7, 0), MoveType.CAPTURE));
+		board.addMove(createMove(new Coordinate(0, 1), new Coordinate(0, 0), MoveType.ATTACK));
+		board.addMove(createMove(new Coordinate(7, 0), new Coordinate(6, 2), MoveType.ATTACK));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(7, 0));
+
+		// when
+		ValidationResult kingside = MoveValidation.check(board, new Coordinate(4, 0), new Coordinate(6, 0));
+		ValidationResult queenside = MoveValidation.check(board, new Coordinate(4, 0), new Coordinate(2, 0));
+
+		// then
+		assertEquals(ValidationResult.INVALID, kingside);
+		assertEquals(ValidationResult.INVALID, queenside);
+		assertEquals(CastlingRights.of(Color.BLACK), board.getCastlingRights());
+	}
+
+	@Test
+	public void testCheckEnPassantOnlyRightAfterDoubleStep() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_PAWN, new Coordinate(1, 4));
+		board.setPieceAt(Piece.WHITE_KNIGHT, new Coordinate(6, 0));
+		board.setPieceAt(Piece.BLACK_PAWN, new Coordinate(2, 4));
+		board.setPieceAt(Piece.BLACK_KNIGHT, new Coordinate(6, 7));
+		board.getMoveHistory().add(new Move());
+		Move doubleStep = createMove(new Coordinate(2, 6), new Coordinate(2, 4), MoveType.ATTACK);
+		doubleStep.setMovedPiece(Piece.BLACK_PAWN);
+		board.getMoveHistory().add(doubleStep);
+
+		// when
+		ValidationResult rightAfter = MoveValidation.check(board, new Coordinate(1, 4), new Coordinate(2, 5));
+		board.addMove(createMove(new Coordinate(6, 0), new Coordinate(5, 2), MoveType.ATTACK));
+		board.addMove(createMove(new Coordinate(6, 7), new Coordinate(5, 5), MoveType.ATTACK));
+		ValidationResult later = MoveValidation.check(board, new Coordinate(1, 4), new Coordinate(2, 5));
+
+		// then
+		assertEquals(ValidationResult.EN_PASSANT, rightAfter);
+		assertEquals(ValidationResult.INVALID, later);
+	}
+
+	private Move createMove(Coordinate from, Coordinate to, MoveType type) {
+		Move move = new Move();
+		move.setFrom(from);
+		move.setTo(to);
+		move.setType(type);
+		return move;
+	}
+}
@@ -55,6 +55,20 @@ public class MovementManagerTest {
 		assertEquals(move.getTo().getY(), to.getY());
 	}
 
+	@Test
+	public void moveWhitePawnFromStartingPositionToFrontOneSpotWhenSecondSpotIsTaken() throws KingInCheckException, InvalidMoveException {
+		BoardManager boardManager = new BoardManager();
+		Board board = boardManager.getBoard();
+		board.setPieceAt(Piece.BLACK_PAWN, new Coordinate(5, 3));
+
+		Coordinate from = new Coordinate(5, 1);
+		Coordinate to = new Coordinate(5, 2);
+		MovementManager movementManager = new MovementManager(from, to, board);
+		Move move = movementManager.validate();
+		assertEquals(move.getTo().getX(), to.getX());
+		assertEquals(move.getTo().getY(), to.getY());
+	}
+
 	@Test
 	public void moveWhitePawnFromStartingPositionToFrontThreeSpots() throws KingInCheckException, InvalidMoveException {
 		BoardManager boardManager = new BoardManager();
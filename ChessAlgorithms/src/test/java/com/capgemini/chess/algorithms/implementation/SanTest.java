@@ -0,0 +1,123 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.implementation.perft.PerftPosition;
+
+/**
+ * Test class for testing {@link San}
+ */
+public class SanTest {
+
+	@Test
+	public void testDecodeResolvesDisambiguation() throws Exception {
+		// given
+		Board board = Fen.parse("4k3/8/8/8/8/8/8/R3K2R w - - 0 1");
+		Board knights = Fen.parse("4k3/8/8/N7/8/8/8/N3K3 w - - 0 1");
+
+		// when
+		int rook = San.decode(board, "Rad1");
+		int knight = San.decode(knights, "N1b3");
+
+		// then
+		assertEquals(Bitboards.square(0, 0), PackedMove.from(rook));
+		assertEquals(Bitboards.square(3, 0), PackedMove.to(rook));
+		assertEquals(Bitboards.square(0, 0), PackedMove.from(knight));
+		assertEquals(Bitboards.square(1, 2), PackedMove.to(knight));
+		assertEquals("Rd1", San.encode(board, rook));
+		assertEquals("N1b3", San.encode(knights, knight));
+	}
+
+	@Test
+	public void testDecodeIgnoresPinnedCandidate() throws Exception {
+		// given
+		Board board = Fen.parse("4r1k1/8/8/8/8/8/4N3/2N1K3 w - - 0 1");
+
+		// when
+		int move = San.decode(board, "Nd3");
+
+		// then
+		assertEquals(Bitboards.square(2, 0), PackedMove.from(move));
+		assertEquals("Nd3", San.encode(board, move));
+	}
+
+	@Test
+	public void testDecodeSpecialMoves() throws Exception {
+		// given
+		Board board = Fen.parse("r3k2r/1P6/8/3pP3/8/8/8/R3K2R w KQkq d6 0 1");
+
+		// when
+		int enPassant = San.decode(board, "exd6");
+		int castling = San.decode(board, "O-O-O");
+		int promotion = San.decode(board, "bxa8=Q+");
+
+		// then
+		assertEquals(MoveType.EN_PASSANT, PackedMove.type(enPassant));
+		assertEquals(Bitboards.square(3, 5), PackedMove.to(enPassant));
+		assertEquals(MoveType.CASTLING, PackedMove.type(castling));
+		assertEquals(Bitboards.square(2, 0), PackedMove.to(castling));
+		assertTrue(PackedMove.isPromotion(promotion));
+		assertEquals(Bitboards.square(0, 7), PackedMove.to(promotion));
+	}
+
+	@Test
+	public void testDecodeRejectsAmbiguousAndIllegalMoves() throws Exception {
+		// given
+		Board board = Fen.parse("4k3/8/8/N7/8/8/8/N3K3 w - - 0 1");
+		String[] rejected = { "Nb3", "Ke3x", "Rd8", "e4", "Kd2=Q", "a8=N", "O-O", "Zz9" };
+
+		for (String san : rejected) {
+			try {
+				// when
+				San.decode(board, san);
+				fail("Expected InvalidMoveException for: " + san);
+			} catch (InvalidMoveException e) {
+				// then
+				assertNotNull(e.getMessage());
+			}
+		}
+	}
+
+	@Test
+	public void testEncodeCheckAndMateSuffixes() throws Exception {
+		// given
+		Board board = Fen.parse("6k1/5ppp/8/8/8/8/8/R3K3 w Q - 0 1");
+
+		// when
+		String mate = San.encode(board, San.decode(board, "Ra8"));
+		String check = San.encode(board, San.decode(board, "O-O-O"));
+		String quiet = San.encode(board, San.decode(board, "Ra2"));
+
+		// then
+		assertEquals("Ra8#", mate);
+		assertEquals("O-O-O", check);
+		assertEquals("Ra2", quiet);
+	}
+
+	@Test
+	public void testEncodeDecodeRoundTripForAllLegalMoves() throws Exception {
+		// given
+		Board board = PerftPosition.KIWIPETE.createBoard();
+		MoveList moves = new MoveList();
+		new MoveGenerator(board).generateLegalMoves(board.getSideToMove(), moves);
+
+		for (int i = 0; i < moves.size(); i++) {
+			// when
+			String san = San.encode(board, moves.get(i));
+			int decoded = San.decode(board, san);
+
+			// then
+			assertEquals(san, PackedMove.from(moves.get(i)), PackedMove.from(decoded));
+			assertEquals(san, PackedMove.to(moves.get(i)), PackedMove.to(decoded));
+		}
+		assertEquals(48, moves.size());
+	}
+}
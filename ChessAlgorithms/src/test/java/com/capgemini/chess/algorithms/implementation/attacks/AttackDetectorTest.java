@@ -0,0 +1,59 @@
+package com.capgemini.chess.algorithms.implementation.attacks;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Test class for testing {@link AttackDetector}
+ */
+public class AttackDetectorTest {
+
+	@Test
+	public void testIsSquareAttackedByEveryPieceType() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.BLACK_PAWN, new Coordinate(4, 4));
+		board.setPieceAt(Piece.BLACK_KNIGHT, new Coordinate(0, 0));
+		board.setPieceAt(Piece.BLACK_ROOK, new Coordinate(7, 7));
+
+		// then
+		assertTrue(AttackDetector.isSquareAttacked(board, Bitboards.square(3, 3), Color.BLACK));
+		assertFalse(AttackDetector.isSquareAttacked(board, Bitboards.square(3, 5), Color.BLACK));
+		assertTrue(AttackDetector.isSquareAttacked(board, Bitboards.square(1, 2), Color.BLACK));
+		assertTrue(AttackDetector.isSquareAttacked(board, Bitboards.square(7, 0), Color.BLACK));
+		assertFalse(AttackDetector.isSquareAttacked(board, Bitboards.square(7, 0), Color.WHITE));
+	}
+
+	@Test
+	public void testIsSquareAttackedBlockedRay() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_BISHOP, new Coordinate(0, 0));
+		board.setPieceAt(Piece.BLACK_PAWN, new Coordinate(2, 2));
+
+		// then
+		assertTrue(AttackDetector.isSquareAttacked(board, Bitboards.square(2, 2), Color.WHITE));
+		assertFalse(AttackDetector.isSquareAttacked(board, Bitboards.square(5, 5), Color.WHITE));
+	}
+
+	@Test
+	public void testIsKingInCheckByPinnedPiece() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		board.setPieceAt(Piece.BLACK_KNIGHT, new Coordinate(5, 2));
+		board.setPieceAt(Piece.BLACK_KING, new Coordinate(7, 2));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(0, 2));
+
+		// then
+		assertTrue(AttackDetector.isKingInCheck(board, Color.WHITE));
+		assertFalse(AttackDetector.isKingInCheck(board, Color.BLACK));
+	}
+}
@@ -0,0 +1,80 @@
+package com.capgemini.chess.algorithms.implementation.attacks;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Bitboards;
+
+/**
+ * Test class for testing {@link SlidingAttacks}
+ */
+public class SlidingAttacksTest {
+
+	private static final int[][] ROOK_DIRECTIONS = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+	private static final int[][] BISHOP_DIRECTIONS = { { 1, 1 }, { 1, -1 }, { -1, 1 }, { -1, -1 } };
+
+	@Test
+	public void testRookAttacksOnEmptyBoard() {
+		// when
+		long attacks = SlidingAttacks.rookAttacks(Bitboards.square(0, 0), Bitboards.EMPTY);
+
+		// then
+		assertEquals(14, Bitboards.count(attacks));
+		assertTrue(Bitboards.contains(attacks, Bitboards.square(0, 7)));
+		assertTrue(Bitboards.contains(attacks, Bitboards.square(7, 0)));
+	}
+
+	@Test
+	public void testBishopAttacksStopAtBlocker() {
+		// given
+		long occupied = Bitboards.bit(Bitboards.square(5, 5));
+
+		// when
+		long attacks = SlidingAttacks.bishopAttacks(Bitboards.square(2, 2), occupied);
+
+		// then
+		assertTrue(Bitboards.contains(attacks, Bitboards.square(5, 5)));
+		assertFalse(Bitboards.contains(attacks, Bitboards.square(6, 6)));
+		assertTrue(Bitboards.contains(attacks, Bitboards.square(0, 0)));
+	}
+
+	@Test
+	public void testAttacksMatchRayWalkForRandomOccupancies() {
+		// given
+		Random random = new Random(7);
+
+		for (int i = 0; i < 10000; i++) {
+			int square = random.nextInt(Bitboards.SQUARES);
+			long occupied = random.nextLong() & random.nextLong();
+
+			// when
+			long rookAttacks = SlidingAttacks.rookAttacks(square, occupied);
+			long bishopAttacks = SlidingAttacks.bishopAttacks(square, occupied);
+
+			// then
+			assertEquals(walkRays(square, occupied, ROOK_DIRECTIONS), rookAttacks);
+			assertEquals(walkRays(square, occupied, BISHOP_DIRECTIONS), bishopAttacks);
+			assertEquals(rookAttacks | bishopAttacks, SlidingAttacks.queenAttacks(square, occupied));
+		}
+	}
+
+	private long walkRays(int square, long occupied, int[][] directions) {
+		long attacks = 0;
+		for (int[] direction : directions) {
+			int x = Bitboards.fileOf(square) + direction[0];
+			int y = Bitboards.rankOf(square) + direction[1];
+			while (Bitboards.isOnBoard(x, y)) {
+				attacks |= Bitboards.bit(Bitboards.square(x, y));
+				if (Bitboards.contains(occupied, Bitboards.square(x, y))) {
+					break;
+				}
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+		return attacks;
+	}
+}
@@ -0,0 +1,94 @@
+package com.capgemini.chess.algorithms.implementation.attacks;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.Fen;
+import com.capgemini.chess.algorithms.implementation.San;
+
+/**
+ * Test class for testing {@link StaticExchange}
+ */
+public class StaticExchangeTest {
+
+	@Test
+	public void testCaptureOfUndefendedPiece() throws Exception {
+		// given
+		Board board = Fen.parse("4k3/8/8/3n4/4P3/8/8/4K3 w - - 0 1");
+
+		// when
+		int score = StaticExchange.evaluate(board, San.decode(board, "exd5"));
+
+		// then
+		assertEquals(PieceType.KNIGHT.getValue(), score);
+	}
+
+	@Test
+	public void testCaptureOfDefendedPawnWithQueenLoses() throws Exception {
+		// given
+		Board board = Fen.parse("4k3/2p5/3p4/8/8/8/3Q4/4K3 w - - 0 1");
+
+		// when
+		int score = StaticExchange.evaluate(board, San.decode(board, "Qxd6"));
+
+		// then
+		assertEquals(PieceType.PAWN.getValue() - PieceType.QUEEN.getValue(), score);
+	}
+
+	@Test
+	public void testRookBehindRookJoinsExchange() throws Exception {
+		// given
+		Board board = Fen.parse("3rk3/8/8/3p4/8/8/3R4/3RK3 w - - 0 1");
+
+		// when
+		int score = StaticExchange.evaluate(board, San.decode(board, "Rxd5"));
+
+		// then
+		assertEquals(PieceType.PAWN.getValue(), score);
+	}
+
+	@Test
+	public void testDefenderStopsWhenRecaptureLoses() throws Exception {
+		// given
+		Board board = Fen.parse("3qk3/8/8/3r4/8/8/3R4/3RK3 w - - 0 1");
+
+		// when
+		int score = StaticExchange.evaluate(board, San.decode(board, "Rxd5"));
+
+		// then
+		assertEquals(PieceType.ROOK.getValue(), score);
+	}
+
+	@Test
+	public void testEnPassantAndPromotion() throws Exception {
+		// given
+		Board enPassant = Fen.parse("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1");
+		Board promotion = Fen.parse("4k3/P7/8/8/8/8/8/4K3 w - - 0 1");
+
+		// when
+		int enPassantScore = StaticExchange.evaluate(enPassant, San.decode(enPassant, "exd6"));
+		int promotionScore = StaticExchange.evaluate(promotion, San.decodeMove(promotion, "a8=Q"));
+
+		// then
+		assertEquals(PieceType.PAWN.getValue(), enPassantScore);
+		assertEquals(PieceType.QUEEN.getValue() - PieceType.PAWN.getValue(), promotionScore);
+	}
+
+	@Test
+	public void testEvaluationLeavesBoardUnchanged() throws Exception {
+		// given
+		Board board = Fen.parse("3rk3/8/8/3p4/8/8/3R4/3RK3 w - - 0 1");
+		long key = board.getZobristKey();
+		long occupied = board.getOccupied();
+
+		// when
+		StaticExchange.evaluate(board, San.decode(board, "Rxd5"));
+
+		// then
+		assertEquals(key, board.getZobristKey());
+		assertEquals(occupied, board.getOccupied());
+	}
+}
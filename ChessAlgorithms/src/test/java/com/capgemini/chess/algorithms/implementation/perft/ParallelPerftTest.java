@@ -0,0 +1,70 @@
+package com.capgemini.chess.algorithms.implementation.perft;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Test class for testing {@link ParallelPerft}
+ */
+public class ParallelPerftTest {
+
+	@Test
+	public void testParallelPerftStartPosition() {
+		// given
+		ForkJoinPool pool = new ForkJoinPool(4);
+		ParallelPerft perft = new ParallelPerft(pool, new PerftHashTable(16), 2);
+
+		// when
+		long nodes = perft.perft(PerftPosition.START.createBoard(), 5);
+		pool.shutdown();
+
+		// then
+		assertEquals(PerftPosition.START.getExpectedNodes(5), nodes);
+	}
+
+	@Test
+	public void testParallelPerftKiwipeteLeavesBoardUnchanged() {
+		// given
+		Board board = PerftPosition.KIWIPETE.createBoard();
+		long key = board.getZobristKey();
+
+		// when
+		long nodes = new ParallelPerft().perft(board, 3);
+
+		// then
+		assertEquals(PerftPosition.KIWIPETE.getExpectedNodes(3), nodes);
+		assertEquals(key, board.getZobristKey());
+		assertEquals(0, board.getUndoDepth());
+	}
+
+	@Test
+	public void testHashTableProbeMatchesKeyAndDepth() {
+		// given
+		PerftHashTable hashTable = new PerftHashTable(4);
+
+		// when
+		hashTable.store(0x1234567890ABCDEFL, 3, 8902);
+
+		// then
+		assertEquals(8902, hashTable.probe(0x1234567890ABCDEFL, 3));
+		assertEquals(-1, hashTable.probe(0x1234567890ABCDEFL, 4));
+		assertEquals(-1, hashTable.probe(0x1234567890ABCDEEL, 3));
+	}
+
+	@Test
+	public void testSequentialPerftWithHashTable() {
+		// given
+		Perft perft = new Perft(PerftPosition.ENDGAME.createBoard(), new PerftHashTable(16));
+
+		// when
+		long nodes = perft.perft(5);
+
+		// then
+		assertEquals(PerftPosition.ENDGAME.getExpectedNodes(5), nodes);
+	}
+}
@@ -0,0 +1,72 @@
+package com.capgemini.chess.algorithms.implementation.perft;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Test class for testing {@link Perft}
+ */
+public class PerftTest {
+
+	@Test
+	public void testPerftStartPosition() {
+		// given
+		Perft perft = new Perft(PerftPosition.START.createBoard());
+
+		// when
+		long nodes = perft.perft(4);
+
+		// then
+		assertEquals(PerftPosition.START.getExpectedNodes(4), nodes);
+	}
+
+	@Test
+	public void testPerftKiwipete() {
+		// given
+		Perft perft = new Perft(PerftPosition.KIWIPETE.createBoard());
+
+		// when
+		long nodes = perft.perft(3);
+
+		// then
+		assertEquals(PerftPosition.KIWIPETE.getExpectedNodes(3), nodes);
+	}
+
+	@Test
+	public void testPerftEndgame() {
+		// given
+		Perft perft = new Perft(PerftPosition.ENDGAME.createBoard());
+
+		// when
+		long nodes = perft.perft(4);
+
+		// then
+		assertEquals(PerftPosition.ENDGAME.getExpectedNodes(4), nodes);
+	}
+
+	@Test
+	public void testDivideSumsToPerftAndRestoresBoard() {
+		// given
+		Board board = PerftPosition.KIWIPETE.createBoard();
+		long key = board.getZobristKey();
+		Perft perft = new Perft(board);
+
+		// when
+		Map<String, Long> divide = perft.divide(2);
+
+		// then
+		long sum = 0;
+		for (long nodes : divide.values()) {
+			sum += nodes;
+		}
+		assertEquals(48, divide.size());
+		assertEquals(PerftPosition.KIWIPETE.getExpectedNodes(2), sum);
+		assertTrue(divide.containsKey("e1g1"));
+		assertEquals(key, board.getZobristKey());
+	}
+}
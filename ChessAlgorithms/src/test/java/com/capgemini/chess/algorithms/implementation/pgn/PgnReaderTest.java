@@ -0,0 +1,86 @@
+package com.capgemini.chess.algorithms.implementation.pgn;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Test class for testing {@link PgnReader}
+ */
+public class PgnReaderTest {
+
+	@Test
+	public void testReadGamesOneByOne() throws IOException {
+		// given
+		PgnReader reader = readerOf("[Event \"Casual \\\"game\\\"\"]\n"
+				+ "[Result \"1-0\"]\n"
+				+ "\n"
+				+ "1. e4 {best by test} e5 2.Nf3 $1 (2. f4 exf4 (2... d5)) 2... Nc6 ; comment\n"
+				+ "3. Bb5 a6 1-0\n"
+				+ "\n"
+				+ "[Event \"Second\"]\n"
+				+ "1. d4 d5 2. O-O-O 0-0 *\n");
+
+		// when
+		PgnGame first = reader.next();
+		PgnGame second = reader.next();
+		PgnGame end = reader.next();
+
+		// then
+		assertEquals(1, first.getNumber());
+		assertEquals(1, first.getLine());
+		assertEquals("Casual \"game\"", first.getTag("Event"));
+		assertEquals(Arrays.asList("e4", "e5", "Nf3", "Nc6", "Bb5", "a6"), first.getMoves());
+		assertEquals("1-0", first.getResult());
+		assertEquals(2, second.getNumber());
+		assertEquals(7, second.getLine());
+		assertEquals(Arrays.asList("d4", "d5", "O-O-O", "0-0"), second.getMoves());
+		assertEquals("*", second.getResult());
+		assertNull(end);
+	}
+
+	@Test
+	public void testReadGamesWithoutResult() throws IOException {
+		// given
+		PgnReader reader = readerOf("[Event \"A\"]\n1. e4 e5\n[Event \"B\"]\n1. c4");
+
+		// when
+		PgnGame first = reader.next();
+		PgnGame second = reader.next();
+
+		// then
+		assertEquals(Arrays.asList("e4", "e5"), first.getMoves());
+		assertNull(first.getResult());
+		assertEquals("B", second.getTag("Event"));
+		assertEquals(Arrays.asList("c4"), second.getMoves());
+		assertNull(reader.next());
+	}
+
+	@Test
+	public void testReadGameLongerThanBuffer() throws IOException {
+		// given
+		StringBuilder pgn = new StringBuilder("[Event \"Long\"]\n");
+		for (int i = 1; i <= 20000; i++) {
+			pgn.append(i).append(". Nf3 Nf6 ").append("{ padding comment } ");
+		}
+		pgn.append("1/2-1/2");
+		PgnReader reader = readerOf(pgn.toString());
+
+		// when
+		PgnGame game = reader.next();
+
+		// then
+		assertEquals(40000, game.getMoves().size());
+		assertEquals("1/2-1/2", game.getResult());
+		assertNull(reader.next());
+	}
+
+	private PgnReader readerOf(String pgn) {
+		return new PgnReader(new ByteArrayInputStream(pgn.getBytes(StandardCharsets.ISO_8859_1)));
+	}
+}
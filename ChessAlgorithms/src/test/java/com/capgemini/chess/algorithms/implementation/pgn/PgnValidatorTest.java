@@ -0,0 +1,67 @@
+package com.capgemini.chess.algorithms.implementation.pgn;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Test class for testing {@link PgnValidator}
+ */
+public class PgnValidatorTest {
+
+	private static final String OPERA_GAME = "[Event \"Paris\"]\n[White \"Morphy\"]\n[Result \"1-0\"]\n\n"
+			+ "1. e4 e5 2. Nf3 d6 3. d4 Bg4 4. dxe5 Bxf3 5. Qxf3 dxe5 6. Bc4 Nf6 7. Qb3 Qe7\n"
+			+ "8. Nc3 c6 9. Bg5 b5 10. Nxb5 cxb5 11. Bxb5+ Nbd7 12. O-O-O Rd8 13. Rxd7 Rxd7\n"
+			+ "14. Rd1 Qe6 15. Bxd7+ Nxd7 16. Qb8+ Nxb8 17. Rd8# 1-0\n\n";
+
+	@Test
+	public void testValidateValidAndInvalidGames() throws IOException {
+		// given
+		String pgn = OPERA_GAME
+				+ "[Event \"Illegal\"]\n\n1. e4 e5 2. Ke3 *\n\n"
+				+ "[Event \"Ambiguous\"]\n\n1. Nf3 d5 2. d4 e6 3. Nd2 *\n\n"
+				+ "[Event \"From position\"]\n[SetUp \"1\"]\n[FEN \"4k3/P7/8/8/8/8/8/4K3 w - - 0 1\"]\n\n"
+				+ "1. a8=Q+ Kd7 *\n";
+		PgnValidator validator = new PgnValidator();
+		List<PgnError> errors = new ArrayList<>();
+
+		// when
+		validator.validateAll(readerOf(pgn), errors::add);
+
+		// then
+		assertEquals(4, validator.getGames());
+		assertEquals(2, validator.getInvalidGames());
+		assertEquals(2, errors.size());
+		assertEquals(2, errors.get(0).getGameNumber());
+		assertEquals(3, errors.get(0).getPly());
+		assertEquals("Ke3", errors.get(0).getMove());
+		assertEquals("rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w KQkq - 0 2", errors.get(0).getFen());
+		assertEquals(3, errors.get(1).getGameNumber());
+		assertEquals(5, errors.get(1).getPly());
+		assertTrue(errors.get(1).getMessage().contains("Ambiguous"));
+		assertTrue(validator.getGamesPerSecond() > 0);
+	}
+
+	@Test
+	public void testValidateRejectsUnderPromotion() throws IOException {
+		// given
+		PgnGame game = readerOf("[FEN \"4k3/P7/8/8/8/8/8/4K3 w - - 0 1\"]\n1. a8=N *").next();
+
+		// when
+		PgnError error = new PgnValidator().validate(game);
+
+		// then
+		assertEquals(1, error.getPly());
+		assertTrue(error.getMessage().contains("Under-promotion"));
+	}
+
+	private PgnReader readerOf(String pgn) {
+		return new PgnReader(new ByteArrayInputStream(pgn.getBytes(StandardCharsets.ISO_8859_1)));
+	}
+}
@@ -0,0 +1,73 @@
+package com.capgemini.chess.algorithms.implementation.search;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.Fen;
+import com.capgemini.chess.algorithms.implementation.MoveGenerator;
+
+/**
+ * Test class for testing {@link LazySmpSearch}
+ */
+public class LazySmpSearchTest {
+
+	@Test
+	public void testSearchFindsMateInOneWithFourThreads() throws Exception {
+		// given
+		Board board = Fen.parse("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+
+		// when
+		SearchResult result = new LazySmpSearch(board, 4, new TranspositionTable(4)).search(SearchLimits.depth(3));
+
+		// then
+		assertEquals(new Coordinate(0, 0), result.getBestMove().getFrom());
+		assertEquals(new Coordinate(0, 7), result.getBestMove().getTo());
+		assertEquals(SearchEngine.MATE - 1, result.getScore());
+	}
+
+	@Test
+	public void testSearchReturnsLegalMoveAndLeavesBoardUnchanged() {
+		// given
+		Board board = new BoardManager().getBoard();
+		long key = board.getZobristKey();
+		SearchResult single = new SearchEngine(board).search(SearchLimits.depth(4));
+		MoveList legalMoves = new MoveList();
+		new MoveGenerator(board).generateLegalMoves(board.getSideToMove(), legalMoves);
+
+		// when
+		SearchResult result = new LazySmpSearch(board, 3, new TranspositionTable(4)).search(SearchLimits.depth(4));
+
+		// then
+		assertTrue(legalMoves.contains(PackedMove.fromMove(result.getBestMove())));
+		assertEquals(4, result.getDepth());
+		assertEquals(single.isMate(), result.isMate());
+		assertTrue(result.getNodes() > 0);
+		assertEquals(key, board.getZobristKey());
+	}
+
+	@Test
+	public void testSearchStopsHelpersOnTimeLimit() {
+		// given
+		Board board = new BoardManager().getBoard();
+
+		// when
+		long start = System.currentTimeMillis();
+		SearchResult result = new LazySmpSearch(board, 2, new TranspositionTable(4)).search(SearchLimits.time(200));
+		long elapsed = System.currentTimeMillis() - start;
+
+		// then
+		assertNotNull(result.getBestMove());
+		assertTrue(elapsed < 2000);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSearchRequiresThread() {
+		new LazySmpSearch(new BoardManager().getBoard(), 0, new TranspositionTable(1));
+	}
+}
@@ -0,0 +1,101 @@
+package com.capgemini.chess.algorithms.implementation.search;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.Fen;
+import com.capgemini.chess.algorithms.implementation.MoveGenerator;
+import com.capgemini.chess.algorithms.implementation.San;
+
+/**
+ * Test class for testing {@link MoveOrdering}
+ */
+public class MoveOrderingTest {
+
+	// white queen, knight and pawn can take the black queen, the knight also a
+	// pawn defended by the queen
+	private static final String CAPTURES = "4k3/8/8/1p1q4/4P3/2N5/8/3QK3 w - - 0 1";
+
+	@Test
+	public void testCapturesOrderedByVictimThenAttackerAndLosingLast() throws Exception {
+		// given
+		Board board = Fen.parse(CAPTURES);
+		MoveList moves = legalMoves(board);
+
+		// when
+		new MoveOrdering().order(board, moves, PackedMove.NONE, 0);
+
+		// then
+		assertEquals(San.decode(board, "exd5"), moves.get(0));
+		assertEquals(San.decode(board, "Nxd5"), moves.get(1));
+		assertEquals(San.decode(board, "Qxd5"), moves.get(2));
+		assertTrue(MoveOrdering.isQuiet(moves.get(3)));
+		assertEquals(San.decode(board, "Nxb5"), moves.get(moves.size() - 1));
+	}
+
+	@Test
+	public void testHashMoveFirstThenKillers() throws Exception {
+		// given
+		Board board = Fen.parse(CAPTURES);
+		MoveList moves = legalMoves(board);
+		MoveOrdering ordering = new MoveOrdering();
+		int hashMove = San.decode(board, "Kf2");
+		int killer = San.decode(board, "Na4");
+
+		// when
+		ordering.recordCutoff(Color.WHITE, killer, 3, 2);
+		ordering.order(board, moves, hashMove, 2);
+
+		// then
+		assertEquals(hashMove, moves.get(0));
+		assertEquals(killer, moves.get(4));
+	}
+
+	@Test
+	public void testHistoryOrdersQuietMovesAndIgnoresCaptures() throws Exception {
+		// given
+		Board board = Fen.parse(CAPTURES);
+		MoveList moves = legalMoves(board);
+		MoveOrdering ordering = new MoveOrdering();
+		int shallow = San.decode(board, "Qd3");
+		int deep = San.decode(board, "Ke2");
+
+		// when
+		ordering.recordCutoff(Color.WHITE, shallow, 2, 1);
+		ordering.recordCutoff(Color.WHITE, deep, 5, 1);
+		ordering.recordCutoff(Color.WHITE, San.decode(board, "Nxb5"), 9, 1);
+		ordering.order(board, moves, PackedMove.NONE, 4);
+
+		// then
+		assertEquals(deep, moves.get(3));
+		assertEquals(shallow, moves.get(4));
+	}
+
+	@Test
+	public void testOrderKeepsAllMoves() throws Exception {
+		// given
+		Board board = Fen.parse("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+		MoveList moves = legalMoves(board);
+		MoveList expected = legalMoves(board);
+
+		// when
+		new MoveOrdering().order(board, moves, PackedMove.NONE, 0);
+
+		// then
+		assertEquals(expected.size(), moves.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertTrue(moves.contains(expected.get(i)));
+		}
+	}
+
+	private static MoveList legalMoves(Board board) {
+		MoveList moves = new MoveList();
+		new MoveGenerator(board).generateLegalMoves(board.getSideToMove(), moves);
+		return moves;
+	}
+}
@@ -0,0 +1,152 @@
+package com.capgemini.chess.algorithms.implementation.search;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Level;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.Fen;
+
+/**
+ * Test class for testing {@link SearchEngine}
+ */
+public class SearchEngineTest {
+
+	@Test
+	public void testSearchFindsMateInOne() throws Exception {
+		// given
+		Board board = Fen.parse("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+
+		// when
+		SearchResult result = new SearchEngine(board).search(SearchLimits.depth(3));
+
+		// then
+		assertEquals(new Coordinate(0, 0), result.getBestMove().getFrom());
+		assertEquals(new Coordinate(0, 7), result.getBestMove().getTo());
+		assertEquals(SearchEngine.MATE - 1, result.getScore());
+		assertTrue(result.isMate());
+		assertEquals(1, result.getDepth());
+	}
+
+	@Test
+	public void testSearchFindsMateInTwoForBlack() throws Exception {
+		// given
+		Board board = Fen.parse("6k1/8/8/8/8/8/r7/1r4K1 b - - 0 1");
+
+		// when
+		SearchResult result = new SearchEngine(board).search(SearchLimits.depth(4));
+
+		// then
+		assertTrue(result.isMate());
+		assertTrue(result.getScore() > 0);
+	}
+
+	@Test
+	public void testSearchWinsHangingQueenAndAvoidsLosingOwn() throws Exception {
+		// given
+		Board board = Fen.parse("3qk3/8/8/3p4/8/8/3Q4/4K3 w - - 0 1");
+		Board hanging = Fen.parse("4k3/8/8/3q4/4P3/8/8/4K3 w - - 0 1");
+
+		// when
+		SearchResult avoid = new SearchEngine(board).search(SearchLimits.depth(2));
+		SearchResult capture = new SearchEngine(hanging).search(SearchLimits.depth(2));
+
+		// then
+		assertNotEquals(new Coordinate(3, 4), avoid.getBestMove().getTo());
+		assertEquals(new Coordinate(3, 4), capture.getBestMove().getTo());
+		assertTrue(capture.getScore() > 0);
+	}
+
+	@Test
+	public void testQuiescenceSeesRecaptureBeyondHorizon() throws Exception {
+		// given
+		Board board = Fen.parse("4k3/2p5/3p4/8/8/8/3Q4/4K3 w - - 0 1");
+
+		// when
+		SearchResult result = new SearchEngine(board).search(SearchLimits.depth(1));
+
+		// then
+		assertNotEquals(new Coordinate(3, 5), result.getBestMove().getTo());
+		assertTrue(result.getScore() > 0);
+	}
+
+	@Test
+	public void testQuiescenceSearchesEvasionsInsteadOfStandingPat() throws Exception {
+		// given
+		Board board = Fen.parse("r3k3/2p5/8/1N6/8/8/8/4K3 w - - 0 1");
+
+		// when
+		SearchResult result = new SearchEngine(board).search(SearchLimits.depth(1));
+
+		// then
+		assertEquals(new Coordinate(2, 6), result.getBestMove().getTo());
+		assertTrue(result.getScore() > 0);
+	}
+
+	@Test
+	public void testSearchWithoutLegalMoves() throws Exception {
+		// given
+		Board board = Fen.parse("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1");
+
+		// when
+		SearchResult result = new SearchEngine(board).search(SearchLimits.depth(3));
+
+		// then
+		assertNull(result.getBestMove());
+		assertEquals(SearchEngine.DRAW, result.getScore());
+	}
+
+	@Test
+	public void testSearchLeavesBoardUnchangedAndReportsNodes() {
+		// given
+		Board board = new BoardManager().getBoard();
+		long key = board.getZobristKey();
+
+		// when
+		SearchResult result = new SearchEngine(board).search(SearchLimits.forLevel(Level.MIDDLEBROW));
+
+		// then
+		assertNotNull(result.getBestMove());
+		assertEquals(Piece.WHITE_PAWN.getColor(), result.getBestMove().getMovedPiece().getColor());
+		assertEquals(3, result.getDepth());
+		assertTrue(result.getNodes() > 20);
+		assertTrue(result.getNodesPerSecond() > 0);
+		assertEquals(key, board.getZobristKey());
+	}
+
+	@Test
+	public void testTranspositionTableKeptBetweenSearches() {
+		// given
+		Board board = new BoardManager().getBoard();
+		TranspositionTable table = new TranspositionTable(4);
+		SearchResult first = new SearchEngine(board, table).search(SearchLimits.depth(4));
+
+		// when
+		SearchResult second = new SearchEngine(board, table).search(SearchLimits.depth(4));
+
+		// then
+		assertEquals(first.getBestMove().getFrom(), second.getBestMove().getFrom());
+		assertEquals(first.getBestMove().getTo(), second.getBestMove().getTo());
+		assertTrue(second.getNodes() < first.getNodes());
+	}
+
+	@Test
+	public void testSearchStopsOnTimeLimit() {
+		// given
+		Board board = new BoardManager().getBoard();
+
+		// when
+		long start = System.currentTimeMillis();
+		SearchResult result = new SearchEngine(board).search(SearchLimits.time(200));
+		long elapsed = System.currentTimeMillis() - start;
+
+		// then
+		assertNotNull(result.getBestMove());
+		assertTrue(result.getDepth() >= 1);
+		assertTrue(elapsed < 2000);
+	}
+}
@@ -0,0 +1,114 @@
+package com.capgemini.chess.algorithms.implementation.search;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Test class for testing {@link TranspositionTable}
+ */
+public class TranspositionTableTest {
+
+	@Test
+	public void testStoreAndProbe() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+
+		// when
+		table.store(0x0123456789ABCDEFL, 0x1234, -SearchEngine.MATE + 3, 7, TranspositionTable.BOUND_LOWER);
+		long data = table.probe(0x0123456789ABCDEFL);
+
+		// then
+		assertEquals(0x1234, TranspositionTable.move(data));
+		assertEquals(-SearchEngine.MATE + 3, TranspositionTable.score(data));
+		assertEquals(7, TranspositionTable.depth(data));
+		assertEquals(TranspositionTable.BOUND_LOWER, TranspositionTable.bound(data));
+		assertEquals(0, table.probe(0x0123456789ABCDEEL));
+	}
+
+	@Test
+	public void testSizeInMegabytes() {
+		// given
+		TranspositionTable table = new TranspositionTable(3);
+
+		// when
+		int capacity = table.getCapacity();
+
+		// then
+		assertEquals(2 * 1024 * 1024 / 16, capacity);
+	}
+
+	@Test
+	public void testDepthPolicyKeepsDeeperEntries() {
+		// given
+		TranspositionTable table = new TranspositionTable(1, ReplacementPolicy.DEPTH);
+		for (int i = 0; i < 4; i++) {
+			table.store(sameBucketKey(i), i + 1, 0, 10 - i, TranspositionTable.BOUND_EXACT);
+		}
+
+		// when
+		table.store(sameBucketKey(4), 5, 0, 1, TranspositionTable.BOUND_EXACT);
+
+		// then
+		assertNotEquals(0, table.probe(sameBucketKey(0)));
+		assertNotEquals(0, table.probe(sameBucketKey(2)));
+		assertEquals(0, table.probe(sameBucketKey(3)));
+		assertNotEquals(0, table.probe(sameBucketKey(4)));
+	}
+
+	@Test
+	public void testAgePolicyReplacesOldestEntry() {
+		// given
+		TranspositionTable table = new TranspositionTable(1, ReplacementPolicy.AGE);
+		table.store(sameBucketKey(0), 1, 0, 20, TranspositionTable.BOUND_EXACT);
+		table.newSearch();
+		for (int i = 1; i < 4; i++) {
+			table.store(sameBucketKey(i), i + 1, 0, 1, TranspositionTable.BOUND_EXACT);
+		}
+
+		// when
+		table.store(sameBucketKey(4), 5, 0, 1, TranspositionTable.BOUND_EXACT);
+
+		// then
+		assertEquals(0, table.probe(sameBucketKey(0)));
+		assertNotEquals(0, table.probe(sameBucketKey(4)));
+	}
+
+	@Test
+	public void testSamePositionOverwrittenInPlaceAndClear() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+		table.store(42, 1, 10, 3, TranspositionTable.BOUND_UPPER);
+
+		// when
+		table.store(42, 2, 20, 1, TranspositionTable.BOUND_EXACT);
+		long data = table.probe(42);
+		table.clear();
+
+		// then
+		assertEquals(2, TranspositionTable.move(data));
+		assertEquals(20, TranspositionTable.score(data));
+		assertEquals(0, table.probe(42));
+	}
+
+	@Test
+	public void testHashfullCountsCurrentSearchOnly() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+		for (int i = 0; i < table.getCapacity(); i++) {
+			table.store(i * 0x9E3779B97F4A7C15L, 1, 0, 1, TranspositionTable.BOUND_EXACT);
+		}
+		int filled = table.getHashfull();
+
+		// when
+		table.newSearch();
+
+		// then
+		assertTrue(filled > 500);
+		assertEquals(0, table.getHashfull());
+	}
+
+	private long sameBucketKey(int i) {
+		return ((long) i << 32) | i;
+	}
+}
@@ -0,0 +1,73 @@
+package com.capgemini.chess.algorithms.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Fixed corpus of benchmark positions, each given as a game from the initial
+ * position in coordinate notation. The corpus must not change between runs
+ * which are compared with each other.
+ */
+public enum BenchmarkPosition {
+
+	/** Ruy Lopez after castling, 10 plies */
+	OPENING("e2e4 e7e5 g1f3 b8c6 f1b5 a7a6 b5a4 g8f6 e1g1 f8e7"),
+
+	/** Closed Ruy Lopez, Chigorin variation, 22 plies */
+	MIDDLEGAME("e2e4 e7e5 g1f3 b8c6 f1b5 a7a6 b5a4 g8f6 e1g1 f8e7 f1e1 b7b5 a4b3 d7d6 c2c3 e8g8 h2h3 c6a5 "
+			+ "b3c2 c7c5 d2d4 d8c7"),
+
+	/** Middlegame continued with mass exchanges down to nine pieces, 57 plies */
+	ENDGAME("e2e4 e7e5 g1f3 b8c6 f1b5 a7a6 b5a4 g8f6 e1g1 f8e7 f1e1 b7b5 a4b3 d7d6 c2c3 e8g8 h2h3 c6a5 "
+			+ "b3c2 c7c5 d2d4 d8c7 f3e5 c5d4 e5c4 f8e8 c4d6 c7c3 d6b5 c3b2 c1b2 c8h3 b5c3 d4c3 b1c3 h3g2 "
+			+ "b2c1 f6e4 c2e4 g2e4 d1d8 e8d8 e1e4 d8d4 e4d4 g7g6 c3e4 e7g5 e4g5 a5b3 g5f7 b3c1 a1c1 g8f7 "
+			+ "d4a4 h7h6 a4a6");
+
+	private final String[] moves;
+
+	private BenchmarkPosition(String moves) {
+		this.moves = moves.split(" ");
+	}
+
+	/**
+	 * Source and destination of every move of the game, as pairs
+	 *
+	 * @return coordinates in order: from, to, from, to...
+	 */
+	public List<Coordinate> getCoordinates() {
+		List<Coordinate> coordinates = new ArrayList<>(moves.length * 2);
+		for (String move : moves) {
+			coordinates.add(toCoordinate(move.substring(0, 2)));
+			coordinates.add(toCoordinate(move.substring(2, 4)));
+		}
+		return coordinates;
+	}
+
+	/**
+	 * Plays the game with {@link BoardManager#performMove(Coordinate, Coordinate)}
+	 * and returns the validated moves, ready for the replay constructor
+	 *
+	 * @return moves with type and moved piece set
+	 */
+	public List<Move> getMoves() {
+		BoardManager boardManager = new BoardManager();
+		List<Coordinate> coordinates = getCoordinates();
+		for (int i = 0; i < coordinates.size(); i += 2) {
+			try {
+				boardManager.performMove(coordinates.get(i), coordinates.get(i + 1));
+			} catch (InvalidMoveException e) {
+				throw new IllegalStateException("Illegal move " + (i / 2 + 1) + " in " + name(), e);
+			}
+		}
+		return new ArrayList<>(boardManager.getBoard().getMoveHistory());
+	}
+
+	private static Coordinate toCoordinate(String square) {
+		return new Coordinate(square.charAt(0) - 'a', square.charAt(1) - '1');
+	}
+}
@@ -0,0 +1,29 @@
+package com.capgemini.chess.algorithms.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs benchmarks matching the optional regular expression argument (all by
+ * default) with the GC profiler, which adds allocation rate to throughput.
+ * Results are also written to benchmark-results.json for comparing runs.
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include((args.length > 0) ? args[0] : BenchmarkRunner.class.getPackage().getName())
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result("benchmark-results.json")
+				.build();
+		new Runner(options).run();
+	}
+}
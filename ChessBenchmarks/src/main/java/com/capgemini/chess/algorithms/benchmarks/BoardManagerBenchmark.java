@@ -0,0 +1,93 @@
+package com.capgemini.chess.algorithms.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Throughput of {@link BoardManager} operations on every corpus position.
+ * Run with the GC profiler (see {@link BenchmarkRunner}) to get allocation
+ * rate per operation as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BoardManagerBenchmark {
+
+	@Param
+	public BenchmarkPosition position;
+
+	private List<Coordinate> coordinates;
+	private List<Move> moves;
+	private BoardManager boardManager;
+
+	@Setup
+	public void setUp() {
+		coordinates = position.getCoordinates();
+		moves = position.getMoves();
+		boardManager = new BoardManager(moves);
+	}
+
+	/**
+	 * Plays the whole game with validation, from the initial position
+	 */
+	@Benchmark
+	public BoardManager performMove() throws InvalidMoveException {
+		BoardManager game = new BoardManager();
+		for (int i = 0; i < coordinates.size(); i += 2) {
+			game.performMove(coordinates.get(i), coordinates.get(i + 1));
+		}
+		return game;
+	}
+
+	/**
+	 * Replays the whole game without validation
+	 */
+	@Benchmark
+	public BoardManager replay() {
+		return new BoardManager(moves);
+	}
+
+	/**
+	 * Rebuilds only the final position of the trusted game
+	 */
+	@Benchmark
+	public BoardManager replayPosition() {
+		return BoardManager.replayPosition(moves);
+	}
+
+	@Benchmark
+	public BoardState updateBoardState() {
+		return boardManager.updateBoardState();
+	}
+
+	@Benchmark
+	public boolean checkThreefoldRepetitionRule() {
+		return boardManager.checkThreefoldRepetitionRule();
+	}
+
+	@Benchmark
+	public boolean checkFiftyMoveRule() {
+		return boardManager.checkFiftyMoveRule();
+	}
+}